@@ -0,0 +1,76 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int catalogueSize;
+
+    private ObjectWriter artistListWriter;
+    private ObjectWriter trackListWriter;
+    private List<ArtistDTO> artistDTOs;
+    private List<TrackDTO> trackDTOs;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+        artistListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ArtistDTO.class));
+        trackListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TrackDTO.class));
+        artistDTOs = new ArrayList<>(catalogueSize);
+        trackDTOs = new ArrayList<>(catalogueSize);
+        for (long id = 1; id <= catalogueSize; id++) {
+            artistDTOs.add(ArtistDTO.builder()
+                    .id(id)
+                    .name("Artist " + id)
+                    .aliases(Set.of("Alias " + id, "Other Alias " + id))
+                    .build());
+            trackDTOs.add(TrackDTO.builder()
+                    .id(id)
+                    .title("Track " + id)
+                    .genre(id % 2 == 0 ? "Pop" : "Rock")
+                    .length(180)
+                    .artistId(id % 100 + 1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeArtists() throws JsonProcessingException {
+        return artistListWriter.writeValueAsBytes(artistDTOs);
+    }
+
+    @Benchmark
+    public byte[] serializeTracks() throws JsonProcessingException {
+        return trackListWriter.writeValueAsBytes(trackDTOs);
+    }
+}
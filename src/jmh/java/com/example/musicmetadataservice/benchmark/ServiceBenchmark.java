@@ -0,0 +1,107 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.MusicMetadataServiceApplication;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.service.ArtistService;
+import com.example.musicmetadataservice.service.TrackService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int TRACKS_PER_ARTIST = 10;
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    @Param({"1000", "10000"})
+    private int catalogueSize;
+
+    @Param({"true", "false"})
+    private boolean tracksCacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private ArtistService artistService;
+    private TrackService trackService;
+    private long[] artistIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(MusicMetadataServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--tracks.cache.enabled=" + tracksCacheEnabled,
+                        "--logging.level.root=WARN");
+        artistService = context.getBean(ArtistService.class);
+        trackService = context.getBean(TrackService.class);
+        artistIds = seed(context.getBean(ArtistRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Artist getArtistOfTheDay() {
+        return artistService.getArtistOfTheDay(LocalDate.now());
+    }
+
+    @Benchmark
+    public List<TrackDTO> findTracksByArtistId() {
+        cursor = (cursor + 1) % artistIds.length;
+        return trackService.findTracksByArtistId(artistIds[cursor]);
+    }
+
+    private long[] seed(ArtistRepository artistRepository) {
+        long[] ids = new long[catalogueSize];
+        for (int from = 0; from < catalogueSize; from += SEED_CHUNK_SIZE) {
+            int to = Math.min(from + SEED_CHUNK_SIZE, catalogueSize);
+            List<Artist> artists = new ArrayList<>(to - from);
+            for (int index = from; index < to; index++) {
+                artists.add(Artist.builder().name("Artist " + index).alias("Alias " + index).build());
+            }
+            List<Artist> savedArtists = artistRepository.saveAll(artists);
+            List<TrackDTO> trackDTOs = new ArrayList<>(savedArtists.size() * TRACKS_PER_ARTIST);
+            for (int index = 0; index < savedArtists.size(); index++) {
+                Long artistId = savedArtists.get(index).getId();
+                ids[from + index] = artistId;
+                for (int track = 0; track < TRACKS_PER_ARTIST; track++) {
+                    trackDTOs.add(TrackDTO.builder()
+                            .title("Track " + artistId + "-" + track)
+                            .genre(track % 2 == 0 ? "Pop" : "Rock")
+                            .length(180 + track)
+                            .artistId(artistId)
+                            .build());
+                }
+            }
+            trackService.addTracks(trackDTOs);
+        }
+        return ids;
+    }
+}
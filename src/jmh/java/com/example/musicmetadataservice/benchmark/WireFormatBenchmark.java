@@ -0,0 +1,128 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"1000", "10000"})
+    private int catalogueSize;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter artistListWriter;
+    private ObjectWriter trackListWriter;
+    private boolean gzip;
+    private List<ArtistDTO> artistDTOs;
+    private List<TrackDTO> trackDTOs;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = switch (format) {
+            case "json", "json-gzip" -> new Jackson2ObjectMapperBuilder().build();
+            case "cbor" -> new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build();
+            case "smile" -> new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        gzip = format.equals("json-gzip");
+        artistListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ArtistDTO.class));
+        trackListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TrackDTO.class));
+        artistDTOs = new ArrayList<>(catalogueSize);
+        trackDTOs = new ArrayList<>(catalogueSize);
+        for (long id = 1; id <= catalogueSize; id++) {
+            artistDTOs.add(ArtistDTO.builder()
+                    .id(id)
+                    .name("Artist " + id)
+                    .aliases(Set.of("Alias " + id, "Other Alias " + id))
+                    .build());
+            trackDTOs.add(TrackDTO.builder()
+                    .id(id)
+                    .title("Track " + id)
+                    .genre(id % 2 == 0 ? "Pop" : "Rock")
+                    .length(180)
+                    .artistId(id % 100 + 1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int serializeArtists(WireBytes wireBytes) throws IOException {
+        return wireBytes.record(write(artistListWriter, artistDTOs));
+    }
+
+    @Benchmark
+    public int serializeTracks(WireBytes wireBytes) throws IOException {
+        return wireBytes.record(write(trackListWriter, trackDTOs));
+    }
+
+    private int write(ObjectWriter writer, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+                writer.writeValue(gzipStream, value);
+            }
+        } else {
+            writer.writeValue(bytes, value);
+        }
+        return bytes.size();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+
+        public long bytesPerOp;
+
+        private long operations;
+        private long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            operations = 0;
+            bytes = 0;
+            bytesPerOp = 0;
+        }
+
+        int record(int size) {
+            operations++;
+            bytes += size;
+            bytesPerOp = bytes / operations;
+            return size;
+        }
+    }
+}
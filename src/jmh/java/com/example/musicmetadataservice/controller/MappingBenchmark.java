@@ -0,0 +1,80 @@
+package com.example.musicmetadataservice.controller;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.Track;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int catalogueSize;
+
+    private ArtistController artistController;
+    private TrackController trackController;
+    private List<Artist> artists;
+    private List<Track> tracks;
+
+    @Setup
+    public void setup() {
+        artistController = new ArtistController(null, null, null, null, null, null, null, 1000, 10000);
+        trackController = new TrackController(null, null, null, null, 1000, 10000);
+        artists = new ArrayList<>(catalogueSize);
+        tracks = new ArrayList<>(catalogueSize);
+        for (long id = 1; id <= catalogueSize; id++) {
+            Artist artist = Artist.builder()
+                    .id(id)
+                    .name("Artist " + id)
+                    .alias("Alias " + id)
+                    .alias("Other Alias " + id)
+                    .build();
+            artists.add(artist);
+            tracks.add(Track.builder()
+                    .id(id)
+                    .title("Track " + id)
+                    .genre(id % 2 == 0 ? "Pop" : "Rock")
+                    .length(180)
+                    .artist(artist)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ArtistDTO> mapArtists() {
+        List<ArtistDTO> artistDTOs = new ArrayList<>(artists.size());
+        for (Artist artist : artists) {
+            artistDTOs.add(artistController.mapToArtistDTO(artist));
+        }
+        return artistDTOs;
+    }
+
+    @Benchmark
+    public List<TrackDTO> mapTracks() {
+        List<TrackDTO> trackDTOs = new ArrayList<>(tracks.size());
+        for (Track track : tracks) {
+            trackDTOs.add(trackController.mapToTrackDTO(track));
+        }
+        return trackDTOs;
+    }
+}
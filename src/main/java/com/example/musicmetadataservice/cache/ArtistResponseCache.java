@@ -0,0 +1,122 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.model.Artist;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class ArtistResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final boolean enabled;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final Map<MediaType, ObjectWriter> writers = new LinkedHashMap<>();
+    private final Cache<Key, byte[]> cache;
+
+    public ArtistResponseCache(@Value("${artists.response-cache.enabled:true}") boolean enabled,
+                               @Value("${artists.response-cache.max-bytes:16777216}") long maxBytes,
+                               ContentNegotiationManager contentNegotiationManager,
+                               MappingJackson2HttpMessageConverter jsonConverter,
+                               MappingJackson2CborHttpMessageConverter cborConverter,
+                               MappingJackson2SmileHttpMessageConverter smileConverter,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.contentNegotiationManager = contentNegotiationManager;
+        register(jsonConverter);
+        register(cborConverter);
+        register(smileConverter);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, byte[] body) -> ENTRY_OVERHEAD_BYTES + body.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "artistResponses");
+    }
+
+    public MediaType negotiate(NativeWebRequest request) {
+        List<MediaType> acceptableMediaTypes;
+        try {
+            acceptableMediaTypes = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(request));
+        } catch (HttpMediaTypeNotAcceptableException exception) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptableMediaTypes);
+        for (MediaType acceptableMediaType : acceptableMediaTypes) {
+            for (MediaType mediaType : writers.keySet()) {
+                if (acceptableMediaType.isCompatibleWith(mediaType)) {
+                    return mediaType;
+                }
+            }
+        }
+        return null;
+    }
+
+    public byte[] get(Long artistId, Long version, MediaType mediaType, Supplier<ArtistDTO> artistDTO) {
+        ObjectWriter writer = writers.get(mediaType);
+        if (writer == null) {
+            throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+        }
+        if (!enabled) {
+            return encode(writer, artistDTO.get());
+        }
+        return cache.get(new Key(artistId, version, mediaType), key -> encode(writer, artistDTO.get()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistUpdated(ArtistUpdatedEvent event) {
+        Artist artist = event.getArtist();
+        if (artist.getVersion() == null) {
+            return;
+        }
+        long previousVersion = artist.getVersion() - 1;
+        writers.keySet().forEach(mediaType -> cache.invalidate(new Key(artist.getId(), previousVersion, mediaType)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void register(AbstractJackson2HttpMessageConverter converter) {
+        ObjectWriter writer = converter.getObjectMapper().writerFor(ArtistDTO.class);
+        converter.getSupportedMediaTypes().stream()
+                .filter(MediaType::isConcrete)
+                .forEach(mediaType -> writers.putIfAbsent(mediaType, writer));
+    }
+
+    private static byte[] encode(ObjectWriter writer, ArtistDTO artistDTO) {
+        try {
+            return writer.writeValueAsBytes(artistDTO);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Key(Long artistId, Long version, MediaType mediaType) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ArtistTracksCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int TRACK_OVERHEAD_BYTES = 120;
+
+    private final boolean enabled;
+    private final Cache<Long, List<TrackDTO>> cache;
+    private final Set<BulkLoad> bulkLoads = ConcurrentHashMap.newKeySet();
+
+    public ArtistTracksCache(@Value("${tracks.cache.enabled:true}") boolean enabled,
+                             @Value("${tracks.cache.max-bytes:67108864}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long artistId, List<TrackDTO> tracks) -> estimateBytes(tracks))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "artistTracks");
+    }
+
+    public List<TrackDTO> get(Long artistId, Function<Long, List<TrackDTO>> loader) {
+        if (!enabled) {
+            return loader.apply(artistId);
+        }
+        List<TrackDTO> tracks = cache.get(artistId, id -> {
+            List<TrackDTO> loadedTracks = loader.apply(id);
+            return loadedTracks.isEmpty() ? null : Collections.unmodifiableList(loadedTracks);
+        });
+        return tracks == null ? Collections.emptyList() : tracks;
+    }
+
+    public Map<Long, List<TrackDTO>> getAll(Collection<Long> artistIds,
+                                            Function<Collection<Long>, Map<Long, List<TrackDTO>>> loader) {
+        if (!enabled) {
+            return loader.apply(artistIds);
+        }
+        Map<Long, List<TrackDTO>> tracksByArtist = new HashMap<>(cache.getAllPresent(artistIds));
+        Set<Long> missingArtistIds = new HashSet<>(artistIds);
+        missingArtistIds.removeAll(tracksByArtist.keySet());
+        if (missingArtistIds.isEmpty()) {
+            return tracksByArtist;
+        }
+        BulkLoad bulkLoad = new BulkLoad(missingArtistIds);
+        bulkLoads.add(bulkLoad);
+        try {
+            Map<Long, List<TrackDTO>> loadedTracks = loader.apply(Set.copyOf(missingArtistIds));
+            for (Long artistId : missingArtistIds) {
+                List<TrackDTO> tracks = cache.asMap().compute(artistId, (id, presentTracks) -> presentTracks != null
+                        ? presentTracks
+                        : bulkLoad.merge(id, loadedTracks.getOrDefault(id, List.of())));
+                if (tracks != null) {
+                    tracksByArtist.put(artistId, tracks);
+                }
+            }
+        } finally {
+            bulkLoads.remove(bulkLoad);
+        }
+        return tracksByArtist;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTracksAdded(TracksAddedEvent event) {
+        Map<Long, List<TrackDTO>> addedTracksByArtist = event.getTracks().stream()
+                .sorted(Comparator.comparing(TrackDTO::getId))
+                .collect(Collectors.groupingBy(TrackDTO::getArtistId));
+        addedTracksByArtist.forEach((artistId, addedTracks) -> cache.asMap().compute(artistId, (id, tracks) -> {
+            if (tracks == null) {
+                bulkLoads.forEach(bulkLoad -> bulkLoad.record(id, addedTracks));
+                return null;
+            }
+            return mergeInIdOrder(tracks, addedTracks);
+        }));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static List<TrackDTO> mergeInIdOrder(List<TrackDTO> tracks, List<TrackDTO> addedTracks) {
+        List<TrackDTO> mergedTracks = new ArrayList<>(tracks.size() + addedTracks.size());
+        int position = 0;
+        for (TrackDTO addedTrack : addedTracks) {
+            while (position < tracks.size() && tracks.get(position).getId() < addedTrack.getId()) {
+                mergedTracks.add(tracks.get(position++));
+            }
+            boolean cached = position < tracks.size() && tracks.get(position).getId().equals(addedTrack.getId());
+            boolean repeated = !mergedTracks.isEmpty() && mergedTracks.get(mergedTracks.size() - 1).getId().equals(addedTrack.getId());
+            if (!cached && !repeated) {
+                mergedTracks.add(addedTrack);
+            }
+        }
+        if (mergedTracks.size() == position) {
+            return tracks;
+        }
+        mergedTracks.addAll(tracks.subList(position, tracks.size()));
+        return Collections.unmodifiableList(mergedTracks);
+    }
+
+    private static int estimateBytes(List<TrackDTO> tracks) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (TrackDTO track : tracks) {
+            bytes += TRACK_OVERHEAD_BYTES + (track.getTitle() == null ? 0 : track.getTitle().length());
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static final class BulkLoad {
+
+        private final Set<Long> artistIds;
+        private final Map<Long, List<TrackDTO>> appendedTracks = new ConcurrentHashMap<>();
+
+        private BulkLoad(Set<Long> artistIds) {
+            this.artistIds = artistIds;
+        }
+
+        private void record(Long artistId, List<TrackDTO> tracks) {
+            if (artistIds.contains(artistId)) {
+                appendedTracks.computeIfAbsent(artistId, id -> new CopyOnWriteArrayList<>()).addAll(tracks);
+            }
+        }
+
+        private List<TrackDTO> merge(Long artistId, List<TrackDTO> loadedTracks) {
+            List<TrackDTO> addedTracks = new ArrayList<>(appendedTracks.getOrDefault(artistId, List.of()));
+            addedTracks.sort(Comparator.comparing(TrackDTO::getId));
+            List<TrackDTO> tracks = mergeInIdOrder(loadedTracks, addedTracks);
+            return tracks.isEmpty() ? null : Collections.unmodifiableList(tracks);
+        }
+    }
+}
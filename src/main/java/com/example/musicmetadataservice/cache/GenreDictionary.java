@@ -0,0 +1,87 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.model.Genre;
+import com.example.musicmetadataservice.repository.GenreRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class GenreDictionary {
+
+    private final GenreRepository genreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<String, Genre> genresByName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Genre> genresById = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public GenreDictionary(GenreRepository genreRepository, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.genreRepository = genreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        genreRepository.findAll().forEach(this::register);
+    }
+
+    public String intern(String name) {
+        return name == null ? null : resolve(name).getName();
+    }
+
+    public Integer idOf(String name) {
+        return name == null ? null : resolve(name).getId();
+    }
+
+    public String nameOf(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        Genre genre = genresById.get(id);
+        if (genre == null) {
+            genre = jdbcTemplate.query("select id, name from genres where id = ?",
+                            (resultSet, rowNum) -> new Genre(resultSet.getInt("id"), resultSet.getString("name")), id)
+                    .stream()
+                    .findFirst()
+                    .map(this::register)
+                    .orElseThrow(() -> new IllegalStateException("Unknown genre id " + id));
+        }
+        return genre.getName();
+    }
+
+    private Genre resolve(String name) {
+        Genre genre = genresByName.get(name);
+        return genre != null ? genre : load(name);
+    }
+
+    private Genre load(String name) {
+        lock.lock();
+        try {
+            Genre genre = genresByName.get(name);
+            if (genre != null) {
+                return genre;
+            }
+            try {
+                genre = transactionTemplate.execute(status -> genreRepository.findByName(name)
+                        .orElseGet(() -> genreRepository.saveAndFlush(Genre.builder().name(name).build())));
+            } catch (DataIntegrityViolationException exception) {
+                genre = transactionTemplate.execute(status -> genreRepository.findByName(name)).orElseThrow(() -> exception);
+            }
+            return register(genre);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Genre register(Genre genre) {
+        Genre registered = genresById.computeIfAbsent(genre.getId(), id -> genre);
+        genresByName.putIfAbsent(registered.getName(), registered);
+        return registered;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.musicmetadataservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${artist-of-the-day.zone:UTC}") ZoneId zone) {
+        return Clock.system(zone);
+    }
+}
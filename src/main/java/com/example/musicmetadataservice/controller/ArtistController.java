@@ -1,26 +1,73 @@
 package com.example.musicmetadataservice.controller;
 
+import com.example.musicmetadataservice.cache.ArtistResponseCache;
+import com.example.musicmetadataservice.dto.ArtistBatchResultDTO;
 import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.ArtistOfTheDayDTO;
+import com.example.musicmetadataservice.dto.ArtistSearchResultDTO;
+import com.example.musicmetadataservice.dto.ArtistStatsDTO;
+import com.example.musicmetadataservice.dto.MultiGetResultDTO;
 import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.service.ArtistOfTheDayService;
+import com.example.musicmetadataservice.service.ArtistSearchService;
 import com.example.musicmetadataservice.service.ArtistService;
+import com.example.musicmetadataservice.service.ArtistStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/artists")
 @Validated
 public class ArtistController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final ArtistService artistService;
+    private final ArtistOfTheDayService artistOfTheDayService;
+    private final ArtistSearchService artistSearchService;
+    private final ArtistStatsService artistStatsService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final ArtistResponseCache artistResponseCache;
+    private final int batchChunkSize;
+    private final int maxBatchSize;
 
-    public ArtistController(ArtistService artistService) {
+    public ArtistController(ArtistService artistService, ArtistOfTheDayService artistOfTheDayService,
+                            ArtistSearchService artistSearchService, ArtistStatsService artistStatsService,
+                            ObjectMapper objectMapper, Clock clock,
+                            ArtistResponseCache artistResponseCache,
+                            @Value("${artists.batch.chunk-size:1000}") int batchChunkSize,
+                            @Value("${artists.batch.max-size:10000}") int maxBatchSize) {
         this.artistService = artistService;
+        this.artistOfTheDayService = artistOfTheDayService;
+        this.artistSearchService = artistSearchService;
+        this.artistStatsService = artistStatsService;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.artistResponseCache = artistResponseCache;
+        this.batchChunkSize = batchChunkSize;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -28,27 +75,114 @@ public class ArtistController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapToArtistDTO(artistService.addArtist(mapToArtist(artistDTO))));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ArtistBatchResultDTO>> addArtists(@RequestBody List<ArtistDTO> artistDTOs) {
+        if (artistDTOs.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch cannot contain more than " + maxBatchSize + " artists");
+        }
+        List<ArtistBatchResultDTO> results = new ArrayList<>(artistDTOs.size());
+        for (int offset = 0; offset < artistDTOs.size(); offset += batchChunkSize) {
+            List<ArtistDTO> chunk = artistDTOs.subList(offset, Math.min(offset + batchChunkSize, artistDTOs.size()));
+            for (ArtistBatchResultDTO result : artistService.addArtists(chunk)) {
+                result.setIndex(offset + result.getIndex());
+                results.add(result);
+            }
+        }
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ArtistDTO> updateArtist(@PathVariable Long id, @Valid @RequestBody ArtistDTO artistDTO) {
         return ResponseEntity.ok(mapToArtistDTO(artistService.updateArtist(id, mapToArtist(artistDTO))));
     }
 
     @GetMapping
-    public ResponseEntity<List<ArtistDTO>> getAllArtists() {
-        List<ArtistDTO> artistDTOs = artistService.getAllArtists().stream()
+    public ResponseEntity<List<ArtistDTO>> getAllArtists(@RequestParam(required = false) Long after,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        List<ArtistDTO> artistDTOs = artistService.getArtists(after, limit).stream()
+                .map(this::mapToArtistDTO)
+                .toList();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (artistDTOs.size() == limit) {
+            Long next = artistDTOs.get(artistDTOs.size() - 1).getId();
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", next)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, next.toString())
+                    .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response.body(artistDTOs);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDTO<ArtistDTO>> getArtistsByIds(@RequestParam List<Long> ids) {
+        List<ArtistDTO> artistDTOs = artistService.getArtistsByIds(ids).stream()
                 .map(this::mapToArtistDTO)
                 .toList();
-        return ResponseEntity.ok(artistDTOs);
+        Set<Long> foundIds = artistDTOs.stream().map(ArtistDTO::getId).collect(Collectors.toSet());
+        List<Long> missingIds = ids.stream().distinct().filter(id -> !foundIds.contains(id)).toList();
+        return ResponseEntity.ok(new MultiGetResultDTO<>(artistDTOs, missingIds));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllArtists() {
+        StreamingResponseBody body = outputStream -> {
+            Long after = null;
+            List<Artist> artists;
+            do {
+                artists = artistService.getArtists(after, STREAM_CHUNK_SIZE);
+                for (Artist artist : artists) {
+                    outputStream.write(objectMapper.writeValueAsBytes(mapToArtistDTO(artist)));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                if (!artists.isEmpty()) {
+                    after = artists.get(artists.size() - 1).getId();
+                }
+            } while (artists.size() == STREAM_CHUNK_SIZE);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ArtistSearchResultDTO>> searchArtists(@RequestParam("q") String query,
+                                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(artistSearchService.search(query, limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ArtistDTO> getArtistById(@PathVariable Long id) {
-        return ResponseEntity.ok(mapToArtistDTO(artistService.getArtistById(id)));
+    public ResponseEntity<Object> getArtistById(@PathVariable Long id, NativeWebRequest webRequest) {
+        Artist artist = artistService.getArtistById(id);
+        String eTag = "W/\"" + artist.getVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        MediaType mediaType = artistResponseCache.negotiate(webRequest);
+        if (mediaType == null) {
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(mapToArtistDTO(artist));
+        }
+        byte[] body = artistResponseCache.get(artist.getId(), artist.getVersion(), mediaType,
+                () -> mapToArtistDTO(artist));
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).contentType(mediaType).body(body);
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ArtistStatsDTO> getArtistStats(@PathVariable Long id) {
+        return ResponseEntity.ok(artistStatsService.getArtistStats(id));
     }
 
     @GetMapping("/artist-of-the-day")
     public ResponseEntity<ArtistDTO> getArtistOfTheDay() {
-        return ResponseEntity.ok(mapToArtistDTO(artistService.getArtistOfTheDay()));
+        ArtistOfTheDayDTO artistOfTheDay = artistOfTheDayService.getArtistOfTheDay();
+        Duration timeToRollover = Duration.between(ZonedDateTime.now(clock), artistOfTheDay.getExpiresAt());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setExpires(artistOfTheDay.getExpiresAt());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(timeToRollover.isNegative() ? Duration.ZERO : timeToRollover).cachePublic())
+                .headers(headers)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(artistOfTheDay.getArtist());
     }
 
     private Artist mapToArtist(ArtistDTO artistDTO) {
@@ -59,7 +193,7 @@ public class ArtistController {
                 .build();
     }
 
-    private ArtistDTO mapToArtistDTO(Artist artist) {
+    ArtistDTO mapToArtistDTO(Artist artist) {
         return ArtistDTO.builder()
                 .id(artist.getId())
                 .name(artist.getName())
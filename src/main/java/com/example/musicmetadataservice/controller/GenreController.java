@@ -0,0 +1,31 @@
+package com.example.musicmetadataservice.controller;
+
+import com.example.musicmetadataservice.dto.GenreArtistDTO;
+import com.example.musicmetadataservice.dto.GenreDTO;
+import com.example.musicmetadataservice.service.GenreFacetService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/genres")
+public class GenreController {
+
+    private final GenreFacetService genreFacetService;
+
+    public GenreController(GenreFacetService genreFacetService) {
+        this.genreFacetService = genreFacetService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<GenreDTO>> getGenres() {
+        return ResponseEntity.ok(genreFacetService.getGenres());
+    }
+
+    @GetMapping("/{genre}/artists")
+    public ResponseEntity<List<GenreArtistDTO>> getTopArtists(@PathVariable String genre,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(genreFacetService.getTopArtists(genre, limit));
+    }
+}
@@ -1,27 +1,54 @@
 package com.example.musicmetadataservice.controller;
 
+import com.example.musicmetadataservice.dto.ArtistTracksDTO;
+import com.example.musicmetadataservice.dto.MultiGetResultDTO;
+import com.example.musicmetadataservice.dto.TrackBatchResultDTO;
 import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.dto.TrackSearchResultDTO;
 import com.example.musicmetadataservice.model.Track;
 import com.example.musicmetadataservice.service.ArtistService;
+import com.example.musicmetadataservice.service.TrackSearchService;
 import com.example.musicmetadataservice.service.TrackService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/tracks")
 public class TrackController {
 
     private final TrackService trackService;
+    private final TrackSearchService trackSearchService;
     private final ArtistService artistService;
+    private final ObjectMapper objectMapper;
+    private final int batchChunkSize;
+    private final int maxBatchSize;
 
-    public TrackController(TrackService trackService, ArtistService artistService) {
+    public TrackController(TrackService trackService, TrackSearchService trackSearchService,
+                           ArtistService artistService, ObjectMapper objectMapper,
+                           @Value("${tracks.batch.chunk-size:1000}") int batchChunkSize,
+                           @Value("${tracks.batch.max-size:10000}") int maxBatchSize) {
         this.trackService = trackService;
+        this.trackSearchService = trackSearchService;
         this.artistService = artistService;
+        this.objectMapper = objectMapper;
+        this.batchChunkSize = batchChunkSize;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -29,13 +56,64 @@ public class TrackController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapToTrackDTO(trackService.addTrack(mapToTrack(trackDTO))));
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TrackBatchResultDTO>> addTracks(@RequestBody List<TrackDTO> trackDTOs) {
+        if (trackDTOs.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch cannot contain more than " + maxBatchSize + " tracks");
+        }
+        return ResponseEntity.ok(addTracksInChunks(trackDTOs.iterator()));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<TrackBatchResultDTO>> addTracks(InputStream trackStream) throws IOException {
+        try (MappingIterator<TrackDTO> trackDTOs = objectMapper.readerFor(TrackDTO.class).readValues(trackStream)) {
+            return ResponseEntity.ok(addTracksInChunks(trackDTOs));
+        }
+    }
+
     @GetMapping("/artist/{artistId}")
-    public ResponseEntity<List<TrackDTO>> findTracksByArtistId(@PathVariable Long artistId) {
-        List<TrackDTO> tracksDTO = trackService.findTracksByArtistId(artistId)
-                .stream()
-                .map(this::mapToTrackDTO)
+    public ResponseEntity<List<TrackDTO>> findTracksByArtistId(@PathVariable Long artistId, WebRequest webRequest) {
+        List<TrackDTO> tracks = trackService.findTracksByArtistId(artistId);
+        String eTag = "W/\"" + tracks.size() + "-" + tracks.get(tracks.size() - 1).getId() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(tracks);
+    }
+
+    @GetMapping("/by-artists")
+    public ResponseEntity<MultiGetResultDTO<ArtistTracksDTO>> findTracksByArtistIds(@RequestParam List<Long> ids) {
+        Map<Long, List<TrackDTO>> tracksByArtist = trackService.findTracksByArtistIds(ids);
+        List<ArtistTracksDTO> artistTracks = tracksByArtist.entrySet().stream()
+                .map(entry -> new ArtistTracksDTO(entry.getKey(), entry.getValue()))
                 .toList();
-        return ResponseEntity.ok(tracksDTO);
+        List<Long> missingIds = ids.stream().distinct().filter(id -> !tracksByArtist.containsKey(id)).toList();
+        return ResponseEntity.ok(new MultiGetResultDTO<>(artistTracks, missingIds));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TrackSearchResultDTO>> searchTracks(@RequestParam("q") String query,
+                                                                   @RequestParam(required = false) String genre,
+                                                                   @RequestParam(required = false) Long artistId,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trackSearchService.search(query, genre, artistId, limit));
+    }
+
+    private List<TrackBatchResultDTO> addTracksInChunks(Iterator<TrackDTO> trackDTOs) {
+        List<TrackBatchResultDTO> results = new ArrayList<>();
+        List<TrackDTO> chunk = new ArrayList<>(batchChunkSize);
+        while (trackDTOs.hasNext()) {
+            chunk.add(trackDTOs.next());
+            if (chunk.size() == batchChunkSize || !trackDTOs.hasNext()) {
+                int offset = results.size();
+                for (TrackBatchResultDTO result : trackService.addTracks(chunk)) {
+                    result.setIndex(offset + result.getIndex());
+                    results.add(result);
+                }
+                chunk.clear();
+            }
+        }
+        return results;
     }
 
     private Track mapToTrack(TrackDTO trackDTO) {
@@ -45,11 +123,11 @@ public class TrackController {
                 .title(trackDTO.getTitle())
                 .genre(trackDTO.getGenre())
                 .length(trackDTO.getLength())
-                .artist(artistService.getArtistById(trackDTO.getArtistId()))
+                .artist(artistService.getArtistReference(trackDTO.getArtistId()))
                 .build();
     }
 
-    private TrackDTO mapToTrackDTO(Track track) {
+    TrackDTO mapToTrackDTO(Track track) {
         return TrackDTO.builder()
                 .id(track.getId())
                 .title(track.getTitle())
@@ -0,0 +1,31 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtistBatchResultDTO {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String name;
+
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ArtistOfTheDayDTO {
+    private final LocalDate day;
+
+    private final ArtistDTO artist;
+
+    private final ZonedDateTime expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtistSearchResultDTO {
+    private Long id;
+
+    private String name;
+
+    private String match;
+}
@@ -0,0 +1,24 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtistStatsDTO {
+    private Long artistId;
+
+    private long trackCount;
+
+    private long totalLength;
+
+    private Map<String, Long> genres;
+}
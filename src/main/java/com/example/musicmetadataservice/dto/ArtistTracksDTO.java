@@ -0,0 +1,20 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtistTracksDTO {
+    private Long artistId;
+
+    private List<TrackDTO> tracks;
+}
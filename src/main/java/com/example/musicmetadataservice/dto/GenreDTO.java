@@ -0,0 +1,22 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GenreDTO {
+    private String genre;
+
+    private long trackCount;
+
+    private long artistCount;
+
+    private long totalLength;
+}
@@ -0,0 +1,27 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class JfrRecordingDTO {
+    private final String name;
+
+    private final String state;
+
+    private final String settings;
+
+    private final Instant startTime;
+
+    private final Instant stopTime;
+
+    private final Duration duration;
+
+    private final long size;
+}
@@ -0,0 +1,29 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackBatchResultDTO {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        ARTIST_NOT_FOUND
+    }
+
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.example.musicmetadataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackSearchResultDTO {
+    private Long id;
+
+    private String title;
+
+    private String genre;
+
+    private Long artistId;
+
+    private double score;
+}
@@ -0,0 +1,11 @@
+package com.example.musicmetadataservice.event;
+
+import com.example.musicmetadataservice.model.Artist;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArtistUpdatedEvent {
+    private final Artist artist;
+}
@@ -0,0 +1,13 @@
+package com.example.musicmetadataservice.event;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TracksAddedEvent {
+    private final List<TrackDTO> tracks;
+}
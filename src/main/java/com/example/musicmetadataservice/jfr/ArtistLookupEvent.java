@@ -0,0 +1,25 @@
+package com.example.musicmetadataservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.musicmetadataservice.ArtistLookup")
+@Label("Artist Lookup")
+@Category({"Music Metadata", "Artists"})
+@Description("Lookup of a single artist by id")
+@StackTrace(false)
+public class ArtistLookupEvent extends Event {
+
+    @Label("Artist Id")
+    public long artistId;
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,22 @@
+package com.example.musicmetadataservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.musicmetadataservice.ArtistOfTheDay")
+@Label("Artist Of The Day")
+@Category({"Music Metadata", "Artists"})
+@Description("Artist of the day request, served from memory or resolved from the database")
+@StackTrace(false)
+public class ArtistOfTheDayEvent extends Event {
+
+    @Label("Artist Id")
+    public long artistId;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,25 @@
+package com.example.musicmetadataservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.musicmetadataservice.ArtistTracksRead")
+@Label("Artist Tracks Read")
+@Category({"Music Metadata", "Tracks"})
+@Description("Read of the track list of one artist")
+@StackTrace(false)
+public class ArtistTracksReadEvent extends Event {
+
+    @Label("Artist Id")
+    public long artistId;
+
+    @Label("Result Size")
+    public int resultSize;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,164 @@
+package com.example.musicmetadataservice.jfr;
+
+import com.example.musicmetadataservice.dto.JfrRecordingDTO;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr", enableByDefault = false)
+@ConditionalOnAvailableEndpoint(endpoint = JfrRecordingEndpoint.class)
+public class JfrRecordingEndpoint {
+
+    public static final String RECORDING_NAME = "music-metadata-service";
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(ArtistLookupEvent.class,
+            ArtistTracksReadEvent.class, TrackInsertEvent.class, ArtistOfTheDayEvent.class);
+    private static final List<String> DISABLED_EVENT_NAMES = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String settings;
+
+    @ReadOperation
+    public WebEndpointResponse<JfrRecordingDTO> status() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(mapToJfrRecordingDTO(recording));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<JfrRecordingDTO> start(@Nullable String settings, @Nullable Duration duration) {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                return new WebEndpointResponse<>(mapToJfrRecordingDTO(recording), 409);
+            }
+            String settingsName = settings != null ? settings : DEFAULT_SETTINGS;
+            Configuration configuration = configuration(settingsName);
+            if (configuration == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            Recording newRecording = new Recording(configuration);
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            EVENT_TYPES.forEach(newRecording::enable);
+            DISABLED_EVENT_NAMES.forEach(newRecording::disable);
+            if (duration != null) {
+                newRecording.setDuration(duration);
+            }
+            newRecording.start();
+            if (recording != null) {
+                recording.close();
+            }
+            recording = newRecording;
+            this.settings = settingsName;
+            log.info("Started JFR recording {} with {} settings", RECORDING_NAME, settingsName);
+            return new WebEndpointResponse<>(mapToJfrRecordingDTO(recording));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<JfrRecordingDTO> stop() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+                log.info("Stopped JFR recording {}", RECORDING_NAME);
+            }
+            return new WebEndpointResponse<>(mapToJfrRecordingDTO(recording));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        lock.lock();
+        try {
+            if (recording == null || !RECORDING_NAME.equals(name)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return new WebEndpointResponse<>(deleteOnClose(file));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Configuration configuration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException exception) {
+            log.warn("Unknown JFR settings {}: {}", name, exception.getMessage());
+            return null;
+        }
+    }
+
+    private JfrRecordingDTO mapToJfrRecordingDTO(Recording recording) {
+        return JfrRecordingDTO.builder()
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(settings)
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .duration(recording.getDuration())
+                .size(recording.getSize())
+                .build();
+    }
+
+    private static Resource deleteOnClose(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.musicmetadataservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.musicmetadataservice.TrackInsert")
+@Label("Track Insert")
+@Category({"Music Metadata", "Tracks"})
+@Description("Insert of a single track or a batch of tracks")
+@StackTrace(false)
+public class TrackInsertEvent extends Event {
+
+    @Label("Artist Id")
+    @Description("Artist of the inserted tracks, 0 when a batch spans several artists")
+    public long artistId;
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Inserted")
+    public int inserted;
+}
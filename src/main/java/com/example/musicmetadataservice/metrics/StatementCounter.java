@@ -0,0 +1,28 @@
+package com.example.musicmetadataservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> statementCount = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        statementCount.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        statementCount.get()[0] = 0;
+    }
+
+    public int count() {
+        return statementCount.get()[0];
+    }
+
+    public void clear() {
+        statementCount.remove();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.musicmetadataservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "http.server.requests.db.statements";
+    private static final String OVER_BUDGET_METRIC_NAME = "http.server.requests.db.statements.over.budget";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public StatementMetricsFilter(StatementCounter statementCounter, MeterRegistry meterRegistry,
+                                  @Value("${requests.statement-budget:10}") int statementBudget) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            int statements = statementCounter.count();
+            statementCounter.clear();
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("JDBC statements executed per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > statementBudget) {
+                log.warn("{} {} executed {} statements, over the budget of {}", request.getMethod(),
+                        request.getRequestURI(), statements, statementBudget);
+                Counter.builder(OVER_BUDGET_METRIC_NAME)
+                        .description("Requests that executed more JDBC statements than the budget")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.musicmetadataservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.Set;
 
@@ -15,15 +16,20 @@ import java.util.Set;
 
 public class Artist {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artists_seq")
+    @SequenceGenerator(name = "artists_seq", sequenceName = "artists_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
     private String name;
 
     @Singular
+    @BatchSize(size = 100)
     @ElementCollection
     @CollectionTable(name = "artist_aliases", joinColumns = @JoinColumn(name = "artist_id"))
     @Column(name = "alias")
     private Set<String> aliases;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,34 @@
+package com.example.musicmetadataservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "artist_rotation")
+public class ArtistRotation {
+
+    public static final long ARTIST_OF_THE_DAY = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "rotation_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "artist_id", nullable = false)
+    private Long artistId;
+}
@@ -0,0 +1,34 @@
+package com.example.musicmetadataservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "artist_stats")
+public class ArtistStats {
+
+    @Id
+    @Column(name = "artist_id")
+    private Long artistId;
+
+    @Column(name = "track_count", nullable = false)
+    private long trackCount;
+
+    @Column(name = "total_length", nullable = false)
+    private long totalLength;
+
+    @ElementCollection
+    @CollectionTable(name = "artist_genre_stats", joinColumns = @JoinColumn(name = "artist_id"))
+    @MapKeyColumn(name = "genre")
+    @Column(name = "track_count", nullable = false)
+    private Map<String, Long> genreCounts;
+}
@@ -0,0 +1,24 @@
+package com.example.musicmetadataservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "genres")
+public class Genre {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "genres_seq")
+    @SequenceGenerator(name = "genres_seq", sequenceName = "genres_seq", allocationSize = 1)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
@@ -0,0 +1,26 @@
+package com.example.musicmetadataservice.model;
+
+import com.example.musicmetadataservice.cache.GenreDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.context.annotation.Lazy;
+
+@Converter
+public class GenreConverter implements AttributeConverter<String, Integer> {
+
+    private final GenreDictionary genreDictionary;
+
+    public GenreConverter(@Lazy GenreDictionary genreDictionary) {
+        this.genreDictionary = genreDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String genre) {
+        return genreDictionary.idOf(genre);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer genreId) {
+        return genreDictionary.nameOf(genreId);
+    }
+}
@@ -7,24 +7,29 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "tracks")
 public class Track {
 
+    public static final String ARTIST_FOREIGN_KEY = "fk_tracks_artist";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tracks_seq")
+    @SequenceGenerator(name = "tracks_seq", sequenceName = "tracks_seq", allocationSize = 50)
     private Long id;
 
     private String title;
 
+    @Convert(converter = GenreConverter.class)
+    @Column(name = "genre_id", nullable = false)
     private String genre;
 
     private Integer length;
 
     @ManyToOne
-    @JoinColumn(name = "artist_id", nullable = false)
+    @JoinColumn(name = "artist_id", nullable = false, foreignKey = @ForeignKey(name = Track.ARTIST_FOREIGN_KEY))
     private Artist artist;
 }
@@ -1,10 +1,39 @@
 package com.example.musicmetadataservice.repository;
 
 import com.example.musicmetadataservice.model.Artist;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
     boolean existsByName(String newName);
-}
\ No newline at end of file
+
+    @Query("select a.name from Artist a where a.name in :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Override
+    @EntityGraph(attributePaths = "aliases")
+    List<Artist> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "aliases")
+    Optional<Artist> findById(Long id);
+
+    @Query("select a.id from Artist a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select a.id from Artist a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "aliases")
+    List<Artist> findByIdInOrderByIdAsc(Collection<Long> ids);
+}
@@ -0,0 +1,16 @@
+package com.example.musicmetadataservice.repository;
+
+import com.example.musicmetadataservice.model.ArtistRotation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArtistRotationRepository extends JpaRepository<ArtistRotation, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ArtistRotation> findWithLockById(Long id);
+}
@@ -0,0 +1,46 @@
+package com.example.musicmetadataservice.repository;
+
+import com.example.musicmetadataservice.model.ArtistStats;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArtistStatsRepository extends JpaRepository<ArtistStats, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "genreCounts")
+    Optional<ArtistStats> findById(Long artistId);
+
+    @Modifying
+    @Query(value = "insert into artist_stats (artist_id, track_count, total_length) "
+            + "select id, 0, 0 from artists where id in (:artistIds)", nativeQuery = true)
+    int createStats(@Param("artistIds") Collection<Long> artistIds);
+
+    @Modifying
+    @Query(value = "merge into artist_stats s "
+            + "using (select cast(:artistId as bigint) as artist_id, cast(:trackCount as bigint) as track_count, "
+            + "cast(:totalLength as bigint) as total_length) v on s.artist_id = v.artist_id "
+            + "when matched then update set track_count = s.track_count + v.track_count, "
+            + "total_length = s.total_length + v.total_length "
+            + "when not matched then insert (artist_id, track_count, total_length) "
+            + "values (v.artist_id, v.track_count, v.total_length)", nativeQuery = true)
+    int addTracks(@Param("artistId") Long artistId, @Param("trackCount") long trackCount,
+                  @Param("totalLength") long totalLength);
+
+    @Modifying
+    @Query(value = "merge into artist_genre_stats s "
+            + "using (select cast(:artistId as bigint) as artist_id, cast(:genre as varchar) as genre, "
+            + "cast(:trackCount as bigint) as track_count) v on s.artist_id = v.artist_id and s.genre = v.genre "
+            + "when matched then update set track_count = s.track_count + v.track_count "
+            + "when not matched then insert (artist_id, genre, track_count) "
+            + "values (v.artist_id, v.genre, v.track_count)", nativeQuery = true)
+    int addGenreTracks(@Param("artistId") Long artistId, @Param("genre") String genre,
+                       @Param("trackCount") long trackCount);
+}
@@ -0,0 +1,12 @@
+package com.example.musicmetadataservice.repository;
+
+import com.example.musicmetadataservice.model.Genre;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GenreRepository extends JpaRepository<Genre, Integer> {
+    Optional<Genre> findByName(String name);
+}
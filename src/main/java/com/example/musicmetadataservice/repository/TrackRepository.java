@@ -1,12 +1,38 @@
 package com.example.musicmetadataservice.repository;
 
+import com.example.musicmetadataservice.dto.GenreArtistTotalsDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
 import com.example.musicmetadataservice.model.Track;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface TrackRepository extends JpaRepository<Track, Long> {
     List<Track> findByArtistId(Long artistId);
+
+    @Query("select new com.example.musicmetadataservice.dto.TrackDTO(t.id, t.title, t.genre, t.length, t.artist.id) "
+            + "from Track t where t.artist.id = :artistId order by t.id")
+    List<TrackDTO> findTrackDTOsByArtistId(@Param("artistId") Long artistId);
+
+    @Query("select new com.example.musicmetadataservice.dto.TrackDTO(t.id, t.title, t.genre, t.length, t.artist.id) "
+            + "from Track t where t.artist.id in :artistIds order by t.artist.id, t.id")
+    List<TrackDTO> findTrackDTOsByArtistIdIn(@Param("artistIds") Collection<Long> artistIds);
+
+    @Query("select new com.example.musicmetadataservice.dto.TrackDTO(t.id, t.title, t.genre, t.length, t.artist.id) "
+            + "from Track t where t.id > :afterId order by t.id")
+    List<TrackDTO> findTrackDTOsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select new com.example.musicmetadataservice.dto.GenreArtistTotalsDTO(t.genre, t.artist.id, count(t), sum(t.length)) "
+            + "from Track t group by t.genre, t.artist.id")
+    List<GenreArtistTotalsDTO> findGenreArtistTotals();
+
+    @Query("select t.id from Track t where t.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,9 @@
+package com.example.musicmetadataservice.service;
+
+import com.example.musicmetadataservice.dto.ArtistOfTheDayDTO;
+
+public interface ArtistOfTheDayService {
+    ArtistOfTheDayDTO getArtistOfTheDay();
+
+    void refresh();
+}
@@ -0,0 +1,14 @@
+package com.example.musicmetadataservice.service;
+
+import com.example.musicmetadataservice.dto.ArtistSearchResultDTO;
+import com.example.musicmetadataservice.model.Artist;
+
+import java.util.List;
+
+public interface ArtistSearchService {
+    List<ArtistSearchResultDTO> search(String query, int limit);
+
+    void index(Artist artist);
+
+    void rebuild();
+}
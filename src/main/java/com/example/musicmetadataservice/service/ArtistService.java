@@ -1,17 +1,28 @@
 package com.example.musicmetadataservice.service;
 
+import com.example.musicmetadataservice.dto.ArtistBatchResultDTO;
+import com.example.musicmetadataservice.dto.ArtistDTO;
 import com.example.musicmetadataservice.model.Artist;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ArtistService {
     Artist addArtist(Artist artist);
 
+    List<ArtistBatchResultDTO> addArtists(List<ArtistDTO> artistDTOs);
+
     Artist updateArtist(Long id, Artist updatedArtist);
 
     List<Artist> getAllArtists();
 
-    Artist getArtistOfTheDay();
+    List<Artist> getArtists(Long afterId, int limit);
+
+    Artist getArtistOfTheDay(LocalDate day);
 
     Artist getArtistById(Long id);
+
+    List<Artist> getArtistsByIds(List<Long> ids);
+
+    Artist getArtistReference(Long id);
 }
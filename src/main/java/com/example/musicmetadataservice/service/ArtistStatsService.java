@@ -0,0 +1,15 @@
+package com.example.musicmetadataservice.service;
+
+import com.example.musicmetadataservice.dto.ArtistStatsDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.Track;
+
+import java.util.Collection;
+
+public interface ArtistStatsService {
+    ArtistStatsDTO getArtistStats(Long artistId);
+
+    void createStats(Collection<Artist> artists);
+
+    void recordTracks(Collection<Track> tracks);
+}
@@ -0,0 +1,17 @@
+package com.example.musicmetadataservice.service;
+
+import com.example.musicmetadataservice.dto.GenreArtistDTO;
+import com.example.musicmetadataservice.dto.GenreDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+
+import java.util.List;
+
+public interface GenreFacetService {
+    List<GenreDTO> getGenres();
+
+    List<GenreArtistDTO> getTopArtists(String genre, int limit);
+
+    void record(TrackDTO track);
+
+    void rebuild();
+}
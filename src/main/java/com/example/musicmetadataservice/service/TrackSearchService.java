@@ -0,0 +1,14 @@
+package com.example.musicmetadataservice.service;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.dto.TrackSearchResultDTO;
+
+import java.util.List;
+
+public interface TrackSearchService {
+    List<TrackSearchResultDTO> search(String query, String genre, Long artistId, int limit);
+
+    void index(TrackDTO track);
+
+    void rebuild();
+}
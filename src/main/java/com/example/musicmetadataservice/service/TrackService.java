@@ -1,11 +1,18 @@
 package com.example.musicmetadataservice.service;
 
+import com.example.musicmetadataservice.dto.TrackBatchResultDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
 import com.example.musicmetadataservice.model.Track;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TrackService {
     Track addTrack(Track track);
 
-    List<Track> findTracksByArtistId(Long artistId);
+    List<TrackBatchResultDTO> addTracks(List<TrackDTO> trackDTOs);
+
+    List<TrackDTO> findTracksByArtistId(Long artistId);
+
+    Map<Long, List<TrackDTO>> findTracksByArtistIds(List<Long> artistIds);
 }
@@ -0,0 +1,136 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.ArtistOfTheDayDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.exception.NoArtistAvailableException;
+import com.example.musicmetadataservice.jfr.ArtistOfTheDayEvent;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.service.ArtistOfTheDayService;
+import com.example.musicmetadataservice.service.ArtistService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class ArtistOfTheDayServiceImpl implements ArtistOfTheDayService {
+
+    private static final List<Duration> ROLLOVER_LOOK_BACKS = List.of(Duration.ofMinutes(1), Duration.ofHours(1),
+            Duration.ofDays(1), Duration.ofDays(8), Duration.ofDays(32), Duration.ofDays(367));
+
+    private final ArtistService artistService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final CronExpression rolloverCron;
+    private final AtomicReference<ArtistOfTheDayDTO> current = new AtomicReference<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ArtistOfTheDayServiceImpl(ArtistService artistService, TransactionTemplate transactionTemplate, Clock clock,
+                                     @Value("${artist-of-the-day.rollover-cron:0 0 0 * * *}") String rolloverCron) {
+        this.artistService = artistService;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.rolloverCron = CronExpression.parse(rolloverCron);
+    }
+
+    @Override
+    public ArtistOfTheDayDTO getArtistOfTheDay() {
+        ArtistOfTheDayEvent event = new ArtistOfTheDayEvent();
+        event.begin();
+        ArtistOfTheDayDTO artistOfTheDay = current.get();
+        boolean cacheHit = artistOfTheDay != null && ZonedDateTime.now(clock).isBefore(artistOfTheDay.getExpiresAt());
+        if (!cacheHit) {
+            artistOfTheDay = resolve();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.artistId = artistOfTheDay.getArtist().getId();
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+        return artistOfTheDay;
+    }
+
+    @Override
+    @Scheduled(cron = "${artist-of-the-day.rollover-cron:0 0 0 * * *}", zone = "${artist-of-the-day.zone:UTC}")
+    public void refresh() {
+        try {
+            resolve();
+        } catch (NoArtistAvailableException exception) {
+            current.set(null);
+            log.info("No artist of the day could be resolved: {}", exception.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistUpdated(ArtistUpdatedEvent event) {
+        Artist artist = event.getArtist();
+        current.updateAndGet(artistOfTheDay -> artistOfTheDay != null && artistOfTheDay.getArtist().getId().equals(artist.getId())
+                ? artistOfTheDay.toBuilder().artist(mapToArtistDTO(artist)).build()
+                : artistOfTheDay);
+    }
+
+    private ArtistOfTheDayDTO resolve() {
+        lock.lock();
+        try {
+            ZonedDateTime now = ZonedDateTime.now(clock);
+            ArtistOfTheDayDTO artistOfTheDay = current.get();
+            if (artistOfTheDay != null && now.isBefore(artistOfTheDay.getExpiresAt())) {
+                return artistOfTheDay;
+            }
+            LocalDate day = previousRollover(now).toLocalDate();
+            ArtistDTO artistDTO = transactionTemplate.execute(status -> mapToArtistDTO(artistService.getArtistOfTheDay(day)));
+            artistOfTheDay = ArtistOfTheDayDTO.builder()
+                    .day(day)
+                    .artist(artistDTO)
+                    .expiresAt(rolloverCron.next(now))
+                    .build();
+            current.set(artistOfTheDay);
+            return artistOfTheDay;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ZonedDateTime previousRollover(ZonedDateTime now) {
+        for (Duration lookBack : ROLLOVER_LOOK_BACKS) {
+            ZonedDateTime rollover = rolloverCron.next(now.minus(lookBack));
+            if (rollover != null && !rollover.isAfter(now)) {
+                for (ZonedDateTime next = rolloverCron.next(rollover); next != null && !next.isAfter(now); next = rolloverCron.next(next)) {
+                    rollover = next;
+                }
+                return rollover;
+            }
+        }
+        return now;
+    }
+
+    private ArtistDTO mapToArtistDTO(Artist artist) {
+        return ArtistDTO.builder()
+                .id(artist.getId())
+                .name(artist.getName())
+                .aliases(new HashSet<>(artist.getAliases()))
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistSearchResultDTO;
+import com.example.musicmetadataservice.event.ArtistCreatedEvent;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.service.ArtistSearchService;
+import com.example.musicmetadataservice.service.ArtistService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class ArtistSearchServiceImpl implements ArtistSearchService {
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final ArtistService artistService;
+    private final ConcurrentSkipListMap<String, Set<Long>> artistIdsByTerm = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, IndexedArtist> indexedArtists = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ArtistSearchServiceImpl(ArtistService artistService) {
+        this.artistService = artistService;
+    }
+
+    @Override
+    public List<ArtistSearchResultDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty or blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        String prefix = normalize(query);
+        Map<Long, ArtistSearchResultDTO> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<Long>> entry : artistIdsByTerm.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || results.size() == limit) {
+                break;
+            }
+            for (Long artistId : entry.getValue()) {
+                IndexedArtist artist = indexedArtists.get(artistId);
+                if (artist != null && !results.containsKey(artistId)) {
+                    results.put(artistId, new ArtistSearchResultDTO(artistId, artist.name(), artist.terms().get(entry.getKey())));
+                    if (results.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    @Override
+    public void index(Artist artist) {
+        lock.lock();
+        try {
+            remove(artist.getId());
+            Map<String, String> terms = new LinkedHashMap<>();
+            terms.put(normalize(artist.getName()), artist.getName());
+            if (artist.getAliases() != null) {
+                artist.getAliases().forEach(alias -> terms.putIfAbsent(normalize(alias), alias));
+            }
+            indexedArtists.put(artist.getId(), new IndexedArtist(artist.getName(), terms));
+            terms.keySet().forEach(term -> artistIdsByTerm
+                    .computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet())
+                    .add(artist.getId()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            artistIdsByTerm.clear();
+            indexedArtists.clear();
+            Long after = null;
+            List<Artist> artists;
+            do {
+                artists = artistService.getArtists(after, REBUILD_CHUNK_SIZE);
+                artists.forEach(this::index);
+                if (!artists.isEmpty()) {
+                    after = artists.get(artists.size() - 1).getId();
+                }
+            } while (artists.size() == REBUILD_CHUNK_SIZE);
+            log.info("Indexed {} artists and {} search terms", indexedArtists.size(), artistIdsByTerm.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistCreated(ArtistCreatedEvent event) {
+        index(event.getArtist());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistUpdated(ArtistUpdatedEvent event) {
+        index(event.getArtist());
+    }
+
+    private void remove(Long artistId) {
+        IndexedArtist previous = indexedArtists.remove(artistId);
+        if (previous == null) {
+            return;
+        }
+        previous.terms().keySet().forEach(term -> artistIdsByTerm.computeIfPresent(term, (key, artistIds) -> {
+            artistIds.remove(artistId);
+            return artistIds.isEmpty() ? null : artistIds;
+        }));
+    }
+
+    private static String normalize(String term) {
+        return term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedArtist(String name, Map<String, String> terms) {
+    }
+}
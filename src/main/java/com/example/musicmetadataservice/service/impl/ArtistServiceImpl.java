@@ -1,39 +1,138 @@
 package com.example.musicmetadataservice.service.impl;
 
+import com.example.musicmetadataservice.dto.ArtistBatchResultDTO;
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.event.ArtistCreatedEvent;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
 import com.example.musicmetadataservice.exception.NoArtistAvailableException;
 import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.jfr.ArtistLookupEvent;
 import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.ArtistRotation;
 import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistRotationRepository;
 import com.example.musicmetadataservice.service.ArtistService;
+import com.example.musicmetadataservice.service.ArtistStatsService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityExistsException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("artist.service")
 public class ArtistServiceImpl implements ArtistService {
 
+    public static final String ARTISTS_CACHE = "artists";
     private static final String ARTIST_NOT_FOUND_MESSAGE = "Artist not found with id ";
+    private static final String DUPLICATE_ARTIST_MESSAGE = "An artist with the same name already exists";
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final int MAX_MULTI_GET_IDS = 200;
     private final ArtistRepository artistRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ArtistRotationRepository artistRotationRepository;
+    private final ArtistStatsService artistStatsService;
+    private final Cache artistsCache;
 
-    public ArtistServiceImpl(ArtistRepository artistRepository) {
+    public ArtistServiceImpl(ArtistRepository artistRepository, ApplicationEventPublisher eventPublisher,
+                             Validator validator, ArtistRotationRepository artistRotationRepository,
+                             ArtistStatsService artistStatsService, CacheManager cacheManager) {
         this.artistRepository = artistRepository;
+        this.artistRotationRepository = artistRotationRepository;
+        this.artistStatsService = artistStatsService;
+        this.artistsCache = cacheManager.getCache(ARTISTS_CACHE);
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
     }
 
     @Override
+    @Transactional
+    @CachePut(cacheNames = ARTISTS_CACHE, key = "#result.id")
     public Artist addArtist(Artist artist) {
         try {
-            return artistRepository.save(artist);
+            Artist savedArtist = artistRepository.saveAndFlush(artist);
+            artistStatsService.createStats(List.of(savedArtist));
+            eventPublisher.publishEvent(new ArtistCreatedEvent(savedArtist));
+            return savedArtist;
         } catch (DataIntegrityViolationException | EntityExistsException exception) {
-            throw new IllegalArgumentException("An artist with the same name already exists");
+            throw new IllegalArgumentException(DUPLICATE_ARTIST_MESSAGE);
         }
     }
 
     @Override
+    @Transactional
+    public List<ArtistBatchResultDTO> addArtists(List<ArtistDTO> artistDTOs) {
+        Set<String> names = artistDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(ArtistDTO::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenNames = new HashSet<>(names.isEmpty() ? Set.of() : artistRepository.findExistingNames(names));
+
+        List<ArtistBatchResultDTO> results = new ArrayList<>(artistDTOs.size());
+        List<Artist> artists = new ArrayList<>(artistDTOs.size());
+        List<ArtistBatchResultDTO> createdResults = new ArrayList<>(artistDTOs.size());
+        for (int index = 0; index < artistDTOs.size(); index++) {
+            ArtistDTO artistDTO = artistDTOs.get(index);
+            String error = validate(artistDTO);
+            if (error != null) {
+                results.add(batchResult(index, ArtistBatchResultDTO.Status.INVALID, artistDTO, error));
+            } else if (!takenNames.add(artistDTO.getName())) {
+                results.add(batchResult(index, ArtistBatchResultDTO.Status.DUPLICATE, artistDTO, DUPLICATE_ARTIST_MESSAGE));
+            } else {
+                ArtistBatchResultDTO result = batchResult(index, ArtistBatchResultDTO.Status.CREATED, artistDTO, null);
+                results.add(result);
+                createdResults.add(result);
+                artists.add(Artist.builder()
+                        .name(artistDTO.getName())
+                        .aliases(artistDTO.getAliases())
+                        .build());
+            }
+        }
+
+        try {
+            List<Artist> savedArtists = artistRepository.saveAll(artists);
+            artistRepository.flush();
+            artistStatsService.createStats(savedArtists);
+            for (int index = 0; index < savedArtists.size(); index++) {
+                createdResults.get(index).setId(savedArtists.get(index).getId());
+                eventPublisher.publishEvent(new ArtistCreatedEvent(savedArtists.get(index)));
+            }
+        } catch (DataIntegrityViolationException exception) {
+            throw new IllegalArgumentException(DUPLICATE_ARTIST_MESSAGE);
+        }
+        return results;
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ARTISTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = ARTISTS_CACHE, key = "#result.id")
+    })
     public Artist updateArtist(Long id, Artist updatedArtist) {
         Artist artist = artistRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ARTIST_NOT_FOUND_MESSAGE + id));
@@ -45,7 +144,10 @@ public class ArtistServiceImpl implements ArtistService {
             }
             artist.setName(newName);
         }
-        return artistRepository.save(updatedArtist);
+        updatedArtist.setVersion(artist.getVersion());
+        Artist savedArtist = artistRepository.save(updatedArtist);
+        eventPublisher.publishEvent(new ArtistUpdatedEvent(savedArtist));
+        return savedArtist;
     }
 
 
@@ -55,22 +157,109 @@ public class ArtistServiceImpl implements ArtistService {
     }
 
     @Override
-    public Artist getArtistOfTheDay() {
-        List<Artist> allArtists = artistRepository.findAll();
-        if (allArtists.isEmpty()) {
-            throw new NoArtistAvailableException("No artist is available for the day");
+    @Transactional(readOnly = true)
+    public List<Artist> getArtists(Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        List<Long> ids = artistRepository.findIdsAfter(afterId == null ? 0L : afterId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        return allArtists.get((int) (geDayDifferentForArtistOfTheDay() % allArtists.size()));
+        return artistRepository.findByIdInOrderByIdAsc(ids);
     }
 
-    public long geDayDifferentForArtistOfTheDay() {
-        LocalDate startDate = LocalDate.of(2024, 5, 10);
-        return ChronoUnit.DAYS.between(startDate, LocalDate.now());
+    @Override
+    @Transactional
+    public Artist getArtistOfTheDay(LocalDate day) {
+        ArtistRotation rotation = artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)
+                .orElseGet(() -> ArtistRotation.builder().id(ArtistRotation.ARTIST_OF_THE_DAY).artistId(0L).build());
+        if (day.equals(rotation.getDay())) {
+            Optional<Artist> artist = artistRepository.findById(rotation.getArtistId());
+            if (artist.isPresent()) {
+                return artist.get();
+            }
+        }
+        Long artistId = nextInRotation(rotation.getArtistId());
+        rotation.setDay(day);
+        rotation.setArtistId(artistId);
+        artistRotationRepository.save(rotation);
+        return artistRepository.findById(artistId)
+                .orElseThrow(() -> new NoArtistAvailableException("No artist is available for the day"));
+    }
+
+    private Long nextInRotation(Long previousArtistId) {
+        List<Long> nextIds = artistRepository.findIdsAfter(previousArtistId, Limit.of(1));
+        if (nextIds.isEmpty()) {
+            nextIds = artistRepository.findIdsAfter(0L, Limit.of(1));
+        }
+        if (nextIds.isEmpty()) {
+            throw new NoArtistAvailableException("No artist is available for the day");
+        }
+        return nextIds.get(0);
     }
 
     @Override
     public Artist getArtistById(Long id) {
-        return artistRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(ARTIST_NOT_FOUND_MESSAGE + id));
+        ArtistLookupEvent lookupEvent = new ArtistLookupEvent();
+        lookupEvent.begin();
+        Artist artist = null;
+        boolean cacheHit = false;
+        try {
+            artist = artistsCache.get(id, Artist.class);
+            cacheHit = artist != null;
+            if (!cacheHit) {
+                artist = artistRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException(ARTIST_NOT_FOUND_MESSAGE + id));
+                artistsCache.put(id, artist);
+            }
+            return artist;
+        } finally {
+            lookupEvent.end();
+            if (lookupEvent.shouldCommit()) {
+                lookupEvent.artistId = id;
+                lookupEvent.found = artist != null;
+                lookupEvent.cacheHit = cacheHit;
+                lookupEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Artist> getArtistsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_MULTI_GET_IDS + " ids must be requested");
+        }
+        Map<Long, Artist> artistsById = artistRepository.findByIdInOrderByIdAsc(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Artist::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(artistsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Artist getArtistReference(Long id) {
+        return artistRepository.getReferenceById(id);
+    }
+
+    private String validate(ArtistDTO artistDTO) {
+        if (artistDTO == null) {
+            return "Artist must be provided";
+        }
+        Set<ConstraintViolation<ArtistDTO>> violations = validator.validate(artistDTO);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private ArtistBatchResultDTO batchResult(int index, ArtistBatchResultDTO.Status status, ArtistDTO artistDTO,
+                                             String error) {
+        return ArtistBatchResultDTO.builder()
+                .index(index)
+                .status(status)
+                .name(artistDTO == null ? null : artistDTO.getName())
+                .error(error)
+                .build();
     }
 }
@@ -0,0 +1,77 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistStatsDTO;
+import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.ArtistStats;
+import com.example.musicmetadataservice.model.Track;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.service.ArtistStatsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class ArtistStatsServiceImpl implements ArtistStatsService {
+
+    private static final String ARTIST_NOT_FOUND_MESSAGE = "Artist not found with id ";
+    private final ArtistStatsRepository artistStatsRepository;
+    private final ArtistRepository artistRepository;
+
+    public ArtistStatsServiceImpl(ArtistStatsRepository artistStatsRepository, ArtistRepository artistRepository) {
+        this.artistStatsRepository = artistStatsRepository;
+        this.artistRepository = artistRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArtistStatsDTO getArtistStats(Long artistId) {
+        return artistStatsRepository.findById(artistId)
+                .map(this::mapToArtistStatsDTO)
+                .orElseGet(() -> {
+                    if (!artistRepository.existsById(artistId)) {
+                        throw new ResourceNotFoundException(ARTIST_NOT_FOUND_MESSAGE + artistId);
+                    }
+                    return new ArtistStatsDTO(artistId, 0, 0, Map.of());
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createStats(Collection<Artist> artists) {
+        if (!artists.isEmpty()) {
+            artistStatsRepository.createStats(artists.stream().map(Artist::getId).toList());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTracks(Collection<Track> tracks) {
+        Map<Long, long[]> totalsByArtist = new TreeMap<>();
+        Map<Long, Map<String, Long>> genreCountsByArtist = new TreeMap<>();
+        for (Track track : tracks) {
+            Long artistId = track.getArtist().getId();
+            long[] totals = totalsByArtist.computeIfAbsent(artistId, id -> new long[2]);
+            totals[0]++;
+            totals[1] += track.getLength();
+            genreCountsByArtist.computeIfAbsent(artistId, id -> new TreeMap<>()).merge(track.getGenre(), 1L, Long::sum);
+        }
+        totalsByArtist.forEach((artistId, totals) -> artistStatsRepository.addTracks(artistId, totals[0], totals[1]));
+        genreCountsByArtist.forEach((artistId, genreCounts) -> genreCounts.forEach((genre, trackCount) ->
+                artistStatsRepository.addGenreTracks(artistId, genre, trackCount)));
+    }
+
+    private ArtistStatsDTO mapToArtistStatsDTO(ArtistStats artistStats) {
+        return ArtistStatsDTO.builder()
+                .artistId(artistStats.getArtistId())
+                .trackCount(artistStats.getTrackCount())
+                .totalLength(artistStats.getTotalLength())
+                .genres(new TreeMap<>(artistStats.getGenreCounts()))
+                .build();
+    }
+}
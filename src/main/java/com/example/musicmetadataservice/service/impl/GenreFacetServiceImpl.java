@@ -0,0 +1,177 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.GenreArtistDTO;
+import com.example.musicmetadataservice.dto.GenreArtistTotalsDTO;
+import com.example.musicmetadataservice.dto.GenreDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.GenreFacetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class GenreFacetServiceImpl implements GenreFacetService {
+
+    private static final int MAX_ARTIST_LIMIT = 100;
+    private static final Comparator<GenreArtistDTO> ARTIST_RANKING = Comparator
+            .comparingLong(GenreArtistDTO::getTrackCount)
+            .thenComparing(GenreArtistDTO::getArtistId, Comparator.reverseOrder());
+
+    private final TrackRepository trackRepository;
+    private final ArtistRepository artistRepository;
+    private volatile Map<String, GenreFacet> facets = new ConcurrentHashMap<>();
+    private final TransactionTemplate snapshotTransaction;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private List<TrackDTO> tracksRecordedDuringRebuild;
+
+    public GenreFacetServiceImpl(TrackRepository trackRepository, ArtistRepository artistRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.trackRepository = trackRepository;
+        this.artistRepository = artistRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<GenreDTO> getGenres() {
+        return facets.entrySet().stream()
+                .map(entry -> new GenreDTO(entry.getKey(), entry.getValue().trackCount.get(),
+                        entry.getValue().artistTotals.size(), entry.getValue().totalLength.get()))
+                .sorted(Comparator.comparingLong(GenreDTO::getTrackCount).reversed().thenComparing(GenreDTO::getGenre))
+                .toList();
+    }
+
+    @Override
+    public List<GenreArtistDTO> getTopArtists(String genre, int limit) {
+        if (limit < 1 || limit > MAX_ARTIST_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_ARTIST_LIMIT);
+        }
+        GenreFacet facet = facets.get(genre);
+        if (facet == null) {
+            throw new ResourceNotFoundException("Genre not found: " + genre);
+        }
+        PriorityQueue<GenreArtistDTO> top = new PriorityQueue<>(limit, ARTIST_RANKING);
+        facet.artistTotals.forEach((artistId, totals) -> {
+            GenreArtistDTO artist = new GenreArtistDTO(artistId, null, totals[0].get(), totals[1].get());
+            if (top.size() < limit) {
+                top.add(artist);
+            } else if (ARTIST_RANKING.compare(artist, top.peek()) > 0) {
+                top.poll();
+                top.add(artist);
+            }
+        });
+        List<GenreArtistDTO> artists = new ArrayList<>(top);
+        artists.sort(ARTIST_RANKING.reversed());
+
+        Map<Long, String> names = artistRepository.findByIdInOrderByIdAsc(artists.stream().map(GenreArtistDTO::getArtistId).toList())
+                .stream()
+                .collect(Collectors.toMap(Artist::getId, Artist::getName));
+        artists.forEach(artist -> artist.setName(names.get(artist.getArtistId())));
+        return artists;
+    }
+
+    @Override
+    public void record(TrackDTO track) {
+        lock.lock();
+        try {
+            if (tracksRecordedDuringRebuild != null) {
+                tracksRecordedDuringRebuild.add(track);
+            }
+            add(facets, track.getGenre(), track.getArtistId(), 1, track.getLength());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            setTracksRecordedDuringRebuild(new ArrayList<>());
+            try {
+                snapshotTransaction.executeWithoutResult(status -> replace(trackRepository.findGenreArtistTotals()));
+            } finally {
+                setTracksRecordedDuringRebuild(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTracksAdded(TracksAddedEvent event) {
+        event.getTracks().forEach(this::record);
+    }
+
+    private void replace(List<GenreArtistTotalsDTO> totals) {
+        lock.lock();
+        try {
+            Map<String, GenreFacet> rebuilt = new ConcurrentHashMap<>();
+            totals.forEach(total -> add(rebuilt, total.getGenre(), total.getArtistId(), total.getTrackCount(), total.getTotalLength()));
+            Set<Long> recordedIds = tracksRecordedDuringRebuild.stream()
+                    .map(TrackDTO::getId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Set<Long> aggregatedIds = recordedIds.isEmpty() ? Set.of() : trackRepository.findExistingIds(recordedIds);
+            List<TrackDTO> replayed = tracksRecordedDuringRebuild.stream()
+                    .filter(track -> track.getId() == null || !aggregatedIds.contains(track.getId()))
+                    .toList();
+            replayed.forEach(track -> add(rebuilt, track.getGenre(), track.getArtistId(), 1, track.getLength()));
+            facets = rebuilt;
+            log.info("Aggregated {} genres from {} genre/artist pairs and {} tracks recorded during the rebuild",
+                    rebuilt.size(), totals.size(), replayed.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setTracksRecordedDuringRebuild(List<TrackDTO> tracks) {
+        lock.lock();
+        try {
+            tracksRecordedDuringRebuild = tracks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void add(Map<String, GenreFacet> facets, String genre, Long artistId, long trackCount, long totalLength) {
+        GenreFacet facet = facets.computeIfAbsent(genre, key -> new GenreFacet());
+        AtomicLong[] artistTotals = facet.artistTotals.computeIfAbsent(artistId, key -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+        artistTotals[0].addAndGet(trackCount);
+        artistTotals[1].addAndGet(totalLength);
+        facet.trackCount.addAndGet(trackCount);
+        facet.totalLength.addAndGet(totalLength);
+    }
+
+    private static final class GenreFacet {
+        private final AtomicLong trackCount = new AtomicLong();
+        private final AtomicLong totalLength = new AtomicLong();
+        private final ConcurrentHashMap<Long, AtomicLong[]> artistTotals = new ConcurrentHashMap<>();
+    }
+}
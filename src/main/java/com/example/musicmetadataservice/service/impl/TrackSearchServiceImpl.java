@@ -0,0 +1,302 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.dto.TrackSearchResultDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.TrackSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class TrackSearchServiceImpl implements TrackSearchService {
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TrackRepository trackRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postingsByTrigram = new HashMap<>();
+    private final Map<String, Integer> genreCodes = new HashMap<>();
+    private final List<String> genres = new ArrayList<>();
+    private long[] trackIds = new long[INITIAL_CAPACITY];
+    private long[] artistIds = new long[INITIAL_CAPACITY];
+    private int[] genreIds = new int[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private int[] trigramCounts = new int[INITIAL_CAPACITY];
+    private int documentCount;
+    private int rebuiltDocumentCount;
+
+    public TrackSearchServiceImpl(TrackRepository trackRepository) {
+        this.trackRepository = trackRepository;
+    }
+
+    @Override
+    public List<TrackSearchResultDTO> search(String query, String genre, Long artistId, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty or blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot be longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        Set<String> queryTrigrams = trigrams(query);
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+        int minimumMatches = (queryTrigrams.size() + 2) / 3;
+
+        lock.readLock().lock();
+        try {
+            boolean[] genreFilter = genre == null ? null : genreFilter(genre);
+            List<PostingList> queryPostings = new ArrayList<>(queryTrigrams.size());
+            for (String trigram : queryTrigrams) {
+                PostingList postings = postingsByTrigram.get(trigram);
+                if (postings != null) {
+                    queryPostings.add(postings);
+                }
+            }
+            PostingCursors cursors = new PostingCursors(queryPostings);
+            int[] candidates = new int[INITIAL_CAPACITY];
+            int[] candidateMatches = new int[INITIAL_CAPACITY];
+            int candidateCount = 0;
+            while (cursors.hasNext()) {
+                int document = cursors.next();
+                int matches = 1;
+                while (cursors.hasNext() && cursors.peek() == document) {
+                    cursors.next();
+                    matches++;
+                }
+                if (matches >= minimumMatches
+                        && (genreFilter == null || genreFilter[genreIds[document]])
+                        && (artistId == null || artistIds[document] == artistId)) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                        candidateMatches = Arrays.copyOf(candidateMatches, candidateCount * 2);
+                    }
+                    candidates[candidateCount] = document;
+                    candidateMatches[candidateCount++] = matches;
+                }
+            }
+
+            int[] documents = candidates;
+            int[] documentMatches = candidateMatches;
+            Comparator<Integer> ranking = Comparator
+                    .<Integer>comparingInt(candidate -> documentMatches[candidate])
+                    .thenComparingInt(candidate -> -trigramCounts[documents[candidate]])
+                    .thenComparingLong(candidate -> -trackIds[documents[candidate]]);
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit, ranking);
+            for (int i = 0; i < candidateCount; i++) {
+                if (top.size() < limit) {
+                    top.add(i);
+                } else if (ranking.compare(i, top.peek()) > 0) {
+                    top.poll();
+                    top.add(i);
+                }
+            }
+            List<TrackSearchResultDTO> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int candidate = top.poll();
+                int document = documents[candidate];
+                results.add(new TrackSearchResultDTO(trackIds[document], titles[document], genres.get(genreIds[document]),
+                        artistIds[document], (double) documentMatches[candidate] / queryTrigrams.size()));
+            }
+            return results.reversed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(TrackDTO track) {
+        lock.writeLock().lock();
+        try {
+            if (Arrays.binarySearch(trackIds, 0, rebuiltDocumentCount, track.getId()) >= 0) {
+                return;
+            }
+            add(track);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postingsByTrigram.clear();
+            genreCodes.clear();
+            genres.clear();
+            documentCount = 0;
+            rebuiltDocumentCount = 0;
+            long after = 0L;
+            List<TrackDTO> tracks;
+            do {
+                tracks = trackRepository.findTrackDTOsAfter(after, Limit.of(REBUILD_CHUNK_SIZE));
+                tracks.forEach(this::add);
+                if (!tracks.isEmpty()) {
+                    after = tracks.get(tracks.size() - 1).getId();
+                }
+            } while (tracks.size() == REBUILD_CHUNK_SIZE);
+            rebuiltDocumentCount = documentCount;
+            postingsByTrigram.values().forEach(PostingList::trim);
+            log.info("Indexed {} tracks and {} title trigrams", documentCount, postingsByTrigram.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTracksAdded(TracksAddedEvent event) {
+        event.getTracks().forEach(this::index);
+    }
+
+    private void add(TrackDTO track) {
+        if (documentCount == trackIds.length) {
+            int capacity = documentCount * 2;
+            trackIds = Arrays.copyOf(trackIds, capacity);
+            artistIds = Arrays.copyOf(artistIds, capacity);
+            genreIds = Arrays.copyOf(genreIds, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+        }
+        int document = documentCount++;
+        Set<String> titleTrigrams = trigrams(track.getTitle());
+        trackIds[document] = track.getId();
+        artistIds[document] = track.getArtistId();
+        genreIds[document] = genreCodes.computeIfAbsent(track.getGenre(), genre -> {
+            genres.add(genre);
+            return genres.size() - 1;
+        });
+        titles[document] = track.getTitle();
+        trigramCounts[document] = titleTrigrams.size();
+        titleTrigrams.forEach(trigram -> postingsByTrigram.computeIfAbsent(trigram, key -> new PostingList()).add(document));
+    }
+
+    private boolean[] genreFilter(String genre) {
+        boolean[] filter = new boolean[genres.size()];
+        for (int i = 0; i < filter.length; i++) {
+            filter[i] = genres.get(i).equalsIgnoreCase(genre.trim());
+        }
+        return filter;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            String padded = " " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static final class PostingList {
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        void trim() {
+            documents = Arrays.copyOf(documents, size);
+        }
+    }
+
+    private static final class PostingCursors {
+        private final PostingList[] postings;
+        private final int[] positions;
+        private final int[] heap;
+        private int heapSize;
+
+        PostingCursors(List<PostingList> postingLists) {
+            postings = postingLists.toArray(new PostingList[0]);
+            positions = new int[postings.length];
+            heap = new int[postings.length];
+            for (int cursor = 0; cursor < postings.length; cursor++) {
+                if (postings[cursor].size > 0) {
+                    heap[heapSize++] = cursor;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        boolean hasNext() {
+            return heapSize > 0;
+        }
+
+        int peek() {
+            return document(heap[0]);
+        }
+
+        int next() {
+            int cursor = heap[0];
+            int document = document(cursor);
+            if (++positions[cursor] == postings[cursor].size) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(0);
+            return document;
+        }
+
+        private int document(int cursor) {
+            return postings[cursor].documents[positions[cursor]];
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && document(heap[left]) < document(heap[smallest])) {
+                    smallest = left;
+                }
+                if (right < heapSize && document(heap[right]) < document(heap[smallest])) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                int swapped = heap[index];
+                heap[index] = heap[smallest];
+                heap[smallest] = swapped;
+                index = smallest;
+            }
+        }
+    }
+}
@@ -1,34 +1,261 @@
 package com.example.musicmetadataservice.service.impl;
 
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.cache.GenreDictionary;
+import com.example.musicmetadataservice.dto.TrackBatchResultDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
 import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.jfr.ArtistTracksReadEvent;
+import com.example.musicmetadataservice.jfr.TrackInsertEvent;
 import com.example.musicmetadataservice.model.Track;
+import com.example.musicmetadataservice.repository.ArtistRepository;
 import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.ArtistStatsService;
 import com.example.musicmetadataservice.service.TrackService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("track.service")
 public class TrackServiceImpl implements TrackService {
 
+    private static final String ARTIST_NOT_FOUND_MESSAGE = "Artist not found with id ";
+    private static final int MAX_MULTI_GET_IDS = 200;
+    private static final String DUPLICATE_KEY_SQL_STATE = "23505";
     private final TrackRepository trackRepository;
+    private final ArtistRepository artistRepository;
+    private final ArtistTracksCache artistTracksCache;
+    private final GenreDictionary genreDictionary;
+    private final ArtistStatsService artistStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
-    public TrackServiceImpl(TrackRepository trackRepository) {
+    public TrackServiceImpl(TrackRepository trackRepository, ArtistRepository artistRepository,
+                            ArtistTracksCache artistTracksCache, GenreDictionary genreDictionary,
+                            ArtistStatsService artistStatsService,
+                            ApplicationEventPublisher eventPublisher, Validator validator,
+                            TransactionTemplate transactionTemplate) {
         this.trackRepository = trackRepository;
+        this.artistRepository = artistRepository;
+        this.artistTracksCache = artistTracksCache;
+        this.genreDictionary = genreDictionary;
+        this.artistStatsService = artistStatsService;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     public Track addTrack(Track track) {
-        return trackRepository.save(track);
+        TrackInsertEvent insertEvent = new TrackInsertEvent();
+        insertEvent.begin();
+        genreDictionary.idOf(track.getGenre());
+        Track.TrackBuilder retryTrack = track.toBuilder();
+        return executeInsert(status -> insertTrack(track, insertEvent),
+                status -> insertTrack(retryTrack.build(), insertEvent));
+    }
+
+    private Track insertTrack(Track track, TrackInsertEvent insertEvent) {
+        Track savedTrack;
+        try {
+            savedTrack = trackRepository.saveAndFlush(track);
+        } catch (DataIntegrityViolationException exception) {
+            commit(insertEvent, track.getArtist().getId(), 1, 0);
+            if (isArtistForeignKeyViolation(exception)) {
+                throw new ResourceNotFoundException(ARTIST_NOT_FOUND_MESSAGE + track.getArtist().getId());
+            }
+            throw exception;
+        }
+        artistStatsService.recordTracks(List.of(savedTrack));
+        eventPublisher.publishEvent(new TracksAddedEvent(List.of(mapToTrackDTO(savedTrack))));
+        commit(insertEvent, track.getArtist().getId(), 1, 1);
+        return savedTrack;
     }
 
     @Override
-    public List<Track> findTracksByArtistId(Long artistId) {
-        List<Track> trackOptional = trackRepository.findByArtistId(artistId);
+    public List<TrackBatchResultDTO> addTracks(List<TrackDTO> trackDTOs) {
+        TrackInsertEvent insertEvent = new TrackInsertEvent();
+        insertEvent.begin();
+        List<String> errors = trackDTOs.stream().map(this::validate).toList();
+        for (int index = 0; index < trackDTOs.size(); index++) {
+            if (errors.get(index) == null) {
+                genreDictionary.idOf(trackDTOs.get(index).getGenre());
+            }
+        }
+        TransactionCallback<List<TrackBatchResultDTO>> insert = status -> insertTracks(trackDTOs, errors, insertEvent);
+        return executeInsert(insert, insert);
+    }
+
+    private <T> T executeInsert(TransactionCallback<T> insert, TransactionCallback<T> retry) {
+        try {
+            return transactionTemplate.execute(insert);
+        } catch (DataIntegrityViolationException exception) {
+            if (!isDuplicateKeyViolation(exception)) {
+                throw exception;
+            }
+            return transactionTemplate.execute(retry);
+        }
+    }
+
+    private List<TrackBatchResultDTO> insertTracks(List<TrackDTO> trackDTOs, List<String> errors, TrackInsertEvent insertEvent) {
+        Set<Long> artistIds = trackDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(TrackDTO::getArtistId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingArtistIds = artistIds.isEmpty() ? Set.of() : artistRepository.findExistingIds(artistIds);
+
+        List<TrackBatchResultDTO> results = new ArrayList<>(trackDTOs.size());
+        List<Track> tracks = new ArrayList<>(trackDTOs.size());
+        List<TrackBatchResultDTO> createdResults = new ArrayList<>(trackDTOs.size());
+        for (int index = 0; index < trackDTOs.size(); index++) {
+            TrackDTO trackDTO = trackDTOs.get(index);
+            String error = errors.get(index);
+            if (error != null) {
+                results.add(batchResult(index, TrackBatchResultDTO.Status.INVALID, error));
+            } else if (!existingArtistIds.contains(trackDTO.getArtistId())) {
+                results.add(batchResult(index, TrackBatchResultDTO.Status.ARTIST_NOT_FOUND,
+                        ARTIST_NOT_FOUND_MESSAGE + trackDTO.getArtistId()));
+            } else {
+                TrackBatchResultDTO result = batchResult(index, TrackBatchResultDTO.Status.CREATED, null);
+                results.add(result);
+                createdResults.add(result);
+                tracks.add(Track.builder()
+                        .title(trackDTO.getTitle())
+                        .genre(genreDictionary.intern(trackDTO.getGenre()))
+                        .length(trackDTO.getLength())
+                        .artist(artistRepository.getReferenceById(trackDTO.getArtistId()))
+                        .build());
+            }
+        }
+
+        List<Track> savedTracks = trackRepository.saveAll(tracks);
+        artistStatsService.recordTracks(savedTracks);
+        List<TrackDTO> addedTracks = new ArrayList<>(savedTracks.size());
+        for (int index = 0; index < savedTracks.size(); index++) {
+            createdResults.get(index).setId(savedTracks.get(index).getId());
+            addedTracks.add(mapToTrackDTO(savedTracks.get(index)));
+        }
+        if (!addedTracks.isEmpty()) {
+            eventPublisher.publishEvent(new TracksAddedEvent(addedTracks));
+        }
+        commit(insertEvent, artistIds.size() == 1 ? artistIds.iterator().next() : 0L, trackDTOs.size(), savedTracks.size());
+        return results;
+    }
+
+    @Override
+    public List<TrackDTO> findTracksByArtistId(Long artistId) {
+        ArtistTracksReadEvent readEvent = new ArtistTracksReadEvent();
+        readEvent.begin();
+        boolean[] loaded = new boolean[1];
+        List<TrackDTO> trackOptional = artistTracksCache.get(artistId, id -> {
+            loaded[0] = true;
+            return trackRepository.findTrackDTOsByArtistId(id);
+        });
+        readEvent.end();
+        if (readEvent.shouldCommit()) {
+            readEvent.artistId = artistId;
+            readEvent.resultSize = trackOptional.size();
+            readEvent.cacheHit = !loaded[0];
+            readEvent.commit();
+        }
         if (trackOptional.isEmpty()) {
             throw new ResourceNotFoundException("Track not found with Artist ID: " + artistId);
         }
         return trackOptional;
     }
+
+    @Override
+    public Map<Long, List<TrackDTO>> findTracksByArtistIds(List<Long> artistIds) {
+        if (artistIds == null || artistIds.isEmpty() || artistIds.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_MULTI_GET_IDS + " ids must be requested");
+        }
+        Set<Long> distinctArtistIds = new LinkedHashSet<>(artistIds);
+        Map<Long, List<TrackDTO>> tracksByArtist = artistTracksCache.getAll(distinctArtistIds, ids ->
+                trackRepository.findTrackDTOsByArtistIdIn(ids).stream()
+                        .collect(Collectors.groupingBy(TrackDTO::getArtistId)));
+        Set<Long> artistIdsWithoutTracks = distinctArtistIds.stream()
+                .filter(artistId -> !tracksByArtist.containsKey(artistId))
+                .collect(Collectors.toSet());
+        Set<Long> existingArtistIds = artistIdsWithoutTracks.isEmpty()
+                ? Set.of()
+                : artistRepository.findExistingIds(artistIdsWithoutTracks);
+
+        Map<Long, List<TrackDTO>> results = new LinkedHashMap<>();
+        for (Long artistId : distinctArtistIds) {
+            if (tracksByArtist.containsKey(artistId)) {
+                results.put(artistId, tracksByArtist.get(artistId));
+            } else if (existingArtistIds.contains(artistId)) {
+                results.put(artistId, List.of());
+            }
+        }
+        return results;
+    }
+
+    private TrackDTO mapToTrackDTO(Track track) {
+        return TrackDTO.builder()
+                .id(track.getId())
+                .title(track.getTitle())
+                .genre(genreDictionary.intern(track.getGenre()))
+                .length(track.getLength())
+                .artistId(track.getArtist().getId())
+                .build();
+    }
+
+    private String validate(TrackDTO trackDTO) {
+        if (trackDTO == null) {
+            return "Track must be provided";
+        }
+        Set<ConstraintViolation<TrackDTO>> violations = validator.validate(trackDTO);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private boolean isArtistForeignKeyViolation(DataIntegrityViolationException exception) {
+        return exception.getCause() instanceof ConstraintViolationException constraintViolation
+                && constraintViolation.getConstraintName() != null
+                && constraintViolation.getConstraintName().toLowerCase(Locale.ROOT).startsWith(Track.ARTIST_FOREIGN_KEY);
+    }
+
+    private boolean isDuplicateKeyViolation(DataIntegrityViolationException exception) {
+        return exception.getCause() instanceof ConstraintViolationException constraintViolation
+                && DUPLICATE_KEY_SQL_STATE.equals(constraintViolation.getSQLState());
+    }
+
+    private TrackBatchResultDTO batchResult(int index, TrackBatchResultDTO.Status status, String error) {
+        return TrackBatchResultDTO.builder()
+                .index(index)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    private void commit(TrackInsertEvent insertEvent, long artistId, int requested, int inserted) {
+        insertEvent.end();
+        if (insertEvent.shouldCommit()) {
+            insertEvent.artistId = artistId;
+            insertEvent.requested = requested;
+            insertEvent.inserted = inserted;
+            insertEvent.commit();
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrackIngestBenchmarkTest {
+
+    private static final int TRACK_COUNT = 10_000;
+    private static final int WARM_UP_TRACK_COUNT = 1_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    ArtistRepository artistRepository;
+
+    @Autowired
+    TrackRepository trackRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    private Long artistId;
+
+    @BeforeEach
+    public void setup() {
+        trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
+        artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        artistId = artistRepository.save(Artist.builder()
+                .name("Benchmark Artist")
+                .alias("Benchmark Alias")
+                .build()).getId();
+    }
+
+    @Test
+    void compareSingleAndBatchInsertThroughput() throws Exception {
+        insertOneByOne(tracks(WARM_UP_TRACK_COUNT));
+        insertInBatch(tracks(WARM_UP_TRACK_COUNT));
+
+        long singleStart = System.nanoTime();
+        insertOneByOne(tracks(TRACK_COUNT));
+        long singleNanos = System.nanoTime() - singleStart;
+
+        long batchStart = System.nanoTime();
+        insertInBatch(tracks(TRACK_COUNT));
+        long batchNanos = System.nanoTime() - batchStart;
+
+        System.out.printf("POST /tracks       : %,10.0f rows/s (%d rows in %d ms)%n",
+                rowsPerSecond(singleNanos), TRACK_COUNT, singleNanos / 1_000_000);
+        System.out.printf("POST /tracks/batch : %,10.0f rows/s (%d rows in %d ms)%n",
+                rowsPerSecond(batchNanos), TRACK_COUNT, batchNanos / 1_000_000);
+
+        assertEquals(2L * (TRACK_COUNT + WARM_UP_TRACK_COUNT), trackRepository.count());
+    }
+
+    private void insertOneByOne(List<TrackDTO> trackDTOs) throws Exception {
+        for (TrackDTO trackDTO : trackDTOs) {
+            mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(trackDTO)))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    private void insertInBatch(List<TrackDTO> trackDTOs) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trackDTOs)))
+                .andExpect(status().isOk());
+    }
+
+    private List<TrackDTO> tracks(int count) {
+        List<TrackDTO> trackDTOs = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            trackDTOs.add(TrackDTO.builder()
+                    .title("Benchmark Track " + index)
+                    .genre("Pop")
+                    .length(180)
+                    .artistId(artistId)
+                    .build());
+        }
+        return trackDTOs;
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return TRACK_COUNT * 1_000_000_000.0 / nanos;
+    }
+}
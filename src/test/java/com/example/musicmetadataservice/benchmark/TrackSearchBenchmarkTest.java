@@ -0,0 +1,77 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.impl.TrackSearchServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+@Tag("benchmark")
+class TrackSearchBenchmarkTest {
+
+    private static final int TRACK_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 2_000;
+    private static final List<String> WORDS = List.of("love", "night", "summer", "heart", "dance", "fire", "dream",
+            "river", "city", "midnight", "blue", "golden", "rain", "shadow", "light", "road", "home", "wild",
+            "electric", "ocean", "moon", "storm", "paradise", "echo", "silver", "highway", "angel", "thunder");
+    private static final List<String> GENRES = List.of("Pop", "Rock", "Jazz", "Soul", "Electronic", "Classical");
+    private static final List<String> QUERIES = List.of("midnight", "golden highway", "electrc ocean", "love",
+            "summer rain", "silver moon dance", "thundr");
+
+    @Test
+    void measureQueryLatencyAndIndexMemory() {
+        Random random = new Random(42);
+        TrackSearchServiceImpl trackSearchService = new TrackSearchServiceImpl(mock(TrackRepository.class));
+
+        long heapBefore = usedHeap();
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= TRACK_COUNT; id++) {
+            trackSearchService.index(TrackDTO.builder()
+                    .id(id)
+                    .title(word(random) + " " + word(random) + " " + word(random) + " " + id % 1000)
+                    .genre(GENRES.get(random.nextInt(GENRES.size())))
+                    .length(180)
+                    .artistId(id % 10_000)
+                    .build());
+        }
+        long indexNanos = System.nanoTime() - indexStart;
+        long heapAfter = usedHeap();
+
+        for (int i = 0; i < QUERY_COUNT / 10; i++) {
+            trackSearchService.search(QUERIES.get(i % QUERIES.size()), null, null, 10);
+        }
+        long[] latencies = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String genre = i % 2 == 0 ? null : GENRES.get(i % GENRES.size());
+            long start = System.nanoTime();
+            assertFalse(trackSearchService.search(QUERIES.get(i % QUERIES.size()), genre, null, 10).isEmpty());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("Indexed %,d tracks in %d ms%n", TRACK_COUNT, indexNanos / 1_000_000);
+        System.out.printf("Index heap        : %,d MB per million tracks (including titles)%n",
+                (heapAfter - heapBefore) * 1_000_000L / TRACK_COUNT / (1024 * 1024));
+        System.out.printf("Query latency     : p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                latencies[QUERY_COUNT / 2] / 1e6, latencies[QUERY_COUNT * 99 / 100] / 1e6, latencies[QUERY_COUNT - 1] / 1e6);
+    }
+
+    private static String word(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
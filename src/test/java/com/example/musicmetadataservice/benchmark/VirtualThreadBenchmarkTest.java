@@ -0,0 +1,152 @@
+package com.example.musicmetadataservice.benchmark;
+
+import com.example.musicmetadataservice.MusicMetadataServiceApplication;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.service.TrackService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int ARTIST_COUNT = 1_000;
+    private static final int TRACKS_PER_ARTIST = 5;
+    private static final int CLIENT_COUNT = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARM_UP_REQUESTS_PER_CLIENT = 10;
+    private static final int IDS_PER_MULTI_GET = 20;
+
+    @Test
+    void comparePlatformAndVirtualThreadRequestHandling() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("Clients           : %,d concurrent, %,d requests each%n", CLIENT_COUNT, REQUESTS_PER_CLIENT);
+        System.out.println(platform.describe("Platform threads  "));
+        System.out.println(virtual.describe("Virtual threads   "));
+
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(MusicMetadataServiceApplication.class)
+                        .run("--server.port=0",
+                                "--spring.threads.virtual.enabled=" + virtualThreads,
+                                "--logging.level.root=WARN")) {
+            assertEquals(virtualThreads, context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class));
+            List<Long> artistIds = seed(context);
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+            load(baseUrl, artistIds, WARM_UP_REQUESTS_PER_CLIENT);
+            return load(baseUrl, artistIds, REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private List<Long> seed(ServletWebServerApplicationContext context) {
+        ArtistRepository artistRepository = context.getBean(ArtistRepository.class);
+        TrackService trackService = context.getBean(TrackService.class);
+        List<Artist> artists = new ArrayList<>(ARTIST_COUNT);
+        for (int index = 0; index < ARTIST_COUNT; index++) {
+            artists.add(Artist.builder().name("Load Artist " + index).alias("Load Alias " + index).build());
+        }
+        List<Long> artistIds = artistRepository.saveAll(artists).stream().map(Artist::getId).toList();
+        List<TrackDTO> trackDTOs = new ArrayList<>(ARTIST_COUNT * TRACKS_PER_ARTIST);
+        for (Long artistId : artistIds) {
+            for (int index = 0; index < TRACKS_PER_ARTIST; index++) {
+                trackDTOs.add(TrackDTO.builder()
+                        .title("Load Track " + artistId + "-" + index)
+                        .genre(index % 2 == 0 ? "Pop" : "Rock")
+                        .length(180 + index)
+                        .artistId(artistId)
+                        .build());
+            }
+        }
+        trackService.addTracks(trackDTOs);
+        return artistIds;
+    }
+
+    private Result load(String baseUrl, List<Long> artistIds, int requestsPerClient) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[CLIENT_COUNT * requestsPerClient];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .build()) {
+            long start = System.nanoTime();
+            List<Future<?>> clients = new ArrayList<>(CLIENT_COUNT);
+            for (int client = 0; client < CLIENT_COUNT; client++) {
+                int clientIndex = client;
+                clients.add(executor.submit(() -> {
+                    for (int request = 0; request < requestsPerClient; request++) {
+                        int slot = clientIndex * requestsPerClient + request;
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    HttpRequest.newBuilder(URI.create(baseUrl + path(artistIds, slot))).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception exception) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[slot] = System.nanoTime() - requestStart;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            Arrays.sort(latencies);
+            return new Result(latencies, elapsed, failures.get());
+        }
+    }
+
+    private String path(List<Long> artistIds, int slot) {
+        Long artistId = artistIds.get(slot % artistIds.size());
+        if (slot % 2 == 0) {
+            return "/artists/" + artistId + "/stats";
+        }
+        int from = slot % (artistIds.size() - IDS_PER_MULTI_GET);
+        return "/artists?ids=" + artistIds.subList(from, from + IDS_PER_MULTI_GET).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, int failures) {
+
+        String describe(String label) {
+            return String.format("%s: %,8.0f req/s, p50 %6.2f ms, p99 %7.2f ms, max %7.2f ms, %d failures",
+                    label,
+                    latencies.length * 1_000_000_000.0 / elapsedNanos,
+                    latencies[latencies.length / 2] / 1e6,
+                    latencies[latencies.length * 99 / 100] / 1e6,
+                    latencies[latencies.length - 1] / 1e6,
+                    failures);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.model.Artist;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtistResponseCacheTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private ArtistResponseCache artistResponseCache;
+
+    @BeforeEach
+    public void setup() {
+        artistResponseCache = newCache(true);
+    }
+
+    @Test
+    void testEncodesOncePerVersionAndFormat() throws Exception {
+        AtomicInteger encodes = new AtomicInteger();
+        Supplier<ArtistDTO> artistDTO = () -> {
+            encodes.incrementAndGet();
+            return artistDTO(1L, "Artist 1");
+        };
+
+        byte[] json = artistResponseCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO);
+        assertSame(json, artistResponseCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO));
+        byte[] cbor = artistResponseCache.get(1L, 0L, MediaType.APPLICATION_CBOR, artistDTO);
+        artistResponseCache.get(1L, 1L, MediaType.APPLICATION_JSON, artistDTO);
+
+        assertEquals(3, encodes.get());
+        assertEquals("Artist 1", new ObjectMapper().readTree(json).get("name").asText());
+        assertEquals("Artist 1", new ObjectMapper(new CBORFactory()).readTree(cbor).get("name").asText());
+    }
+
+    @Test
+    void testArtistUpdatedEvictsPreviousVersionInAllFormats() {
+        AtomicInteger encodes = new AtomicInteger();
+        Supplier<ArtistDTO> artistDTO = () -> {
+            encodes.incrementAndGet();
+            return artistDTO(1L, "Artist 1");
+        };
+        artistResponseCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO);
+        artistResponseCache.get(1L, 0L, APPLICATION_SMILE, artistDTO);
+        artistResponseCache.get(1L, 1L, MediaType.APPLICATION_JSON, artistDTO);
+        artistResponseCache.get(2L, 0L, MediaType.APPLICATION_JSON, () -> artistDTO(2L, "Artist 2"));
+
+        artistResponseCache.onArtistUpdated(new ArtistUpdatedEvent(Artist.builder().id(1L).name("Artist 1").version(1L).build()));
+        artistResponseCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO);
+        artistResponseCache.get(1L, 0L, APPLICATION_SMILE, artistDTO);
+        artistResponseCache.get(1L, 1L, MediaType.APPLICATION_JSON, () -> fail("The current version should still be cached"));
+        artistResponseCache.get(2L, 0L, MediaType.APPLICATION_JSON, () -> fail("Artist 2 should still be cached"));
+
+        assertEquals(5, encodes.get());
+    }
+
+    @Test
+    void testNegotiateFollowsAcceptHeader() {
+        assertEquals(MediaType.APPLICATION_JSON, artistResponseCache.negotiate(request(null)));
+        assertEquals(MediaType.APPLICATION_JSON, artistResponseCache.negotiate(request("*/*")));
+        assertEquals(MediaType.APPLICATION_CBOR, artistResponseCache.negotiate(request("application/cbor")));
+        assertEquals(MediaType.APPLICATION_CBOR,
+                artistResponseCache.negotiate(request("application/x-jackson-smile;q=0.5, application/cbor")));
+        assertEquals(APPLICATION_SMILE, artistResponseCache.negotiate(request("text/html, application/x-jackson-smile")));
+        assertNull(artistResponseCache.negotiate(request("text/plain")));
+    }
+
+    @Test
+    void testUnsupportedMediaTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                artistResponseCache.get(1L, 0L, MediaType.TEXT_PLAIN, () -> artistDTO(1L, "Artist 1")));
+    }
+
+    @Test
+    void testDisabledCacheAlwaysEncodes() {
+        ArtistResponseCache disabledCache = newCache(false);
+        AtomicInteger encodes = new AtomicInteger();
+        Supplier<ArtistDTO> artistDTO = () -> {
+            encodes.incrementAndGet();
+            return artistDTO(1L, "Artist 1");
+        };
+
+        disabledCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO);
+        disabledCache.get(1L, 0L, MediaType.APPLICATION_JSON, artistDTO);
+
+        assertEquals(2, encodes.get());
+    }
+
+    private static ArtistResponseCache newCache(boolean enabled) {
+        return new ArtistResponseCache(enabled, 1_000_000, new ContentNegotiationManager(),
+                new MappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder().build()),
+                new MappingJackson2CborHttpMessageConverter(new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build()),
+                new MappingJackson2SmileHttpMessageConverter(new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build()),
+                new SimpleMeterRegistry());
+    }
+
+    private static ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/artists/1");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    private static ArtistDTO artistDTO(Long id, String name) {
+        return ArtistDTO.builder()
+                .id(id)
+                .name(name)
+                .aliases(Set.of("Alias " + id))
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtistTracksCacheTest {
+
+    private ArtistTracksCache artistTracksCache;
+
+    @BeforeEach
+    public void setup() {
+        artistTracksCache = new ArtistTracksCache(true, 1_000_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGetLoadsOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        artistTracksCache.get(1L, artistId -> {
+            loads.incrementAndGet();
+            return List.of(track(1L, 1L));
+        });
+        List<TrackDTO> tracks = artistTracksCache.get(1L, artistId -> {
+            loads.incrementAndGet();
+            return List.of(track(1L, 1L));
+        });
+
+        assertEquals(1, tracks.size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEmptyResultsAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        artistTracksCache.get(1L, artistId -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        assertTrue(artistTracksCache.get(1L, artistId -> {
+            loads.incrementAndGet();
+            return List.of();
+        }).isEmpty());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testTrackAddedIsAppendedInIdOrder() {
+        artistTracksCache.get(1L, artistId -> List.of(track(1L, 1L), track(5L, 1L)));
+
+        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(track(7L, 1L))));
+        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(track(3L, 1L))));
+        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(track(5L, 1L))));
+
+        List<TrackDTO> tracks = artistTracksCache.get(1L, artistId -> fail("Tracks should be cached"));
+        assertEquals(List.of(1L, 3L, 5L, 7L), tracks.stream().map(TrackDTO::getId).toList());
+    }
+
+    @Test
+    void testTracksAddedInOneEventAreMergedPerArtist() {
+        artistTracksCache.get(1L, artistId -> List.of(track(2L, 1L), track(6L, 1L)));
+        artistTracksCache.get(2L, artistId -> List.of(track(4L, 2L)));
+
+        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(
+                track(7L, 1L), track(1L, 1L), track(5L, 2L), track(6L, 1L), track(3L, 1L), track(8L, 3L))));
+
+        assertEquals(List.of(1L, 2L, 3L, 6L, 7L), artistTracksCache.get(1L, artistId -> fail("Tracks should be cached"))
+                .stream().map(TrackDTO::getId).toList());
+        assertEquals(List.of(4L, 5L), artistTracksCache.get(2L, artistId -> fail("Tracks should be cached"))
+                .stream().map(TrackDTO::getId).toList());
+        assertEquals(List.of(8L), artistTracksCache.get(3L, artistId -> List.of(track(8L, 3L)))
+                .stream().map(TrackDTO::getId).toList());
+    }
+
+    @Test
+    void testTrackAddedForUncachedArtistIsIgnored() {
+        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(track(1L, 1L))));
+
+        List<TrackDTO> tracks = artistTracksCache.get(1L, artistId -> List.of(track(1L, 1L), track(2L, 1L)));
+
+        assertEquals(2, tracks.size());
+    }
+
+    @Test
+    void testGetAllLoadsOnlyMissingArtists() {
+        artistTracksCache.get(1L, artistId -> List.of(track(1L, 1L)));
+        List<Collection<Long>> loadedIds = new ArrayList<>();
+
+        Map<Long, List<TrackDTO>> tracks = artistTracksCache.getAll(List.of(1L, 2L, 3L), artistIds -> {
+            loadedIds.add(artistIds);
+            return Map.of(2L, List.of(track(2L, 2L)), 3L, List.of());
+        });
+
+        assertEquals(Set.of(1L, 2L), tracks.keySet());
+        assertEquals(List.of(Set.of(2L, 3L)), loadedIds);
+        assertEquals(1, artistTracksCache.get(2L, artistId -> fail("Tracks should be cached")).size());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        ArtistTracksCache disabledCache = new ArtistTracksCache(false, 1_000_000, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        disabledCache.get(1L, artistId -> List.of(track(loads.incrementAndGet(), 1L)));
+        disabledCache.get(1L, artistId -> List.of(track(loads.incrementAndGet(), 1L)));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testConcurrentInsertsAndLoadsStayConsistent() throws Exception {
+        ConcurrentSkipListMap<Long, TrackDTO> database = new ConcurrentSkipListMap<>();
+        AtomicLong ids = new AtomicLong();
+        int writers = 4;
+        int tracksPerWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < tracksPerWriter; index++) {
+                        TrackDTO track = track(ids.incrementAndGet(), 1L);
+                        database.put(track.getId(), track);
+                        artistTracksCache.onTracksAdded(new TracksAddedEvent(List.of(track)));
+                    }
+                    return null;
+                }));
+            }
+            for (int reader = 0; reader < 2; reader++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < 500; index++) {
+                        artistTracksCache.get(1L, artistId -> new ArrayList<>(database.values()));
+                        if (index % 50 == 0) {
+                            artistTracksCache.invalidateAll();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<TrackDTO> tracks = artistTracksCache.get(1L, artistId -> new ArrayList<>(database.values()));
+        assertEquals(new ArrayList<>(database.keySet()), tracks.stream().map(TrackDTO::getId).toList());
+    }
+
+    @Test
+    void testConcurrentInsertsAndBulkLoadsStayConsistent() throws Exception {
+        ConcurrentSkipListMap<Long, TrackDTO> database = new ConcurrentSkipListMap<>();
+        List<Long> artistIds = List.of(1L, 2L, 3L);
+        AtomicLong ids = new AtomicLong();
+        int writers = 4;
+        int tracksPerWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < tracksPerWriter; index += 10) {
+                        List<TrackDTO> batch = new ArrayList<>();
+                        for (int offset = 0; offset < 10; offset++) {
+                            long id = ids.incrementAndGet();
+                            TrackDTO track = track(id, artistIds.get((int) (id % artistIds.size())));
+                            database.put(track.getId(), track);
+                            batch.add(track);
+                        }
+                        artistTracksCache.onTracksAdded(new TracksAddedEvent(batch));
+                    }
+                    return null;
+                }));
+            }
+            for (int reader = 0; reader < 2; reader++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < 500; index++) {
+                        artistTracksCache.getAll(artistIds, requestedIds -> snapshot(database, requestedIds));
+                        if (index % 50 == 0) {
+                            artistTracksCache.invalidateAll();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Long, List<TrackDTO>> tracks = artistTracksCache.getAll(artistIds, requestedIds -> snapshot(database, requestedIds));
+        Map<Long, List<TrackDTO>> expected = snapshot(database, artistIds);
+        for (Long artistId : artistIds) {
+            assertEquals(expected.get(artistId).stream().map(TrackDTO::getId).toList(),
+                    tracks.get(artistId).stream().map(TrackDTO::getId).toList());
+        }
+    }
+
+    private static Map<Long, List<TrackDTO>> snapshot(Map<Long, TrackDTO> database, Collection<Long> artistIds) {
+        Map<Long, List<TrackDTO>> tracksByArtist = new HashMap<>();
+        for (TrackDTO track : new ArrayList<>(database.values())) {
+            if (artistIds.contains(track.getArtistId())) {
+                tracksByArtist.computeIfAbsent(track.getArtistId(), artistId -> new ArrayList<>()).add(track);
+            }
+        }
+        return tracksByArtist;
+    }
+
+    private static TrackDTO track(long id, long artistId) {
+        return new TrackDTO(id, "Track " + id, "Pop", 180, artistId);
+    }
+}
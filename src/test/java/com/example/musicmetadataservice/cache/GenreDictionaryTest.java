@@ -0,0 +1,113 @@
+package com.example.musicmetadataservice.cache;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Genre;
+import com.example.musicmetadataservice.repository.GenreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GenreDictionaryTest {
+
+    private static final int TRACK_COUNT = 10_000;
+    private static final List<String> GENRES = List.of("Pop", "Rock", "Jazz", "Electronic", "Classical", "Hip Hop");
+
+    private GenreRepository genreRepository;
+    private JdbcTemplate jdbcTemplate;
+    private GenreDictionary genreDictionary;
+
+    @BeforeEach
+    public void setup() {
+        genreRepository = mock(GenreRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicInteger ids = new AtomicInteger();
+        when(genreRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(genreRepository.saveAndFlush(any(Genre.class))).thenAnswer(invocation ->
+                new Genre(ids.incrementAndGet(), invocation.<Genre>getArgument(0).getName()));
+        genreDictionary = new GenreDictionary(genreRepository, jdbcTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testInternReturnsOneSharedInstancePerGenre() {
+        String first = genreDictionary.intern(new String("Rock"));
+        String second = genreDictionary.intern(new String("Rock"));
+
+        assertEquals("Rock", first);
+        assertSame(first, second);
+        assertSame(first, genreDictionary.nameOf(genreDictionary.idOf("Rock")));
+        verify(genreRepository, times(1)).saveAndFlush(any(Genre.class));
+    }
+
+    @Test
+    void testIdOfRegistersNewGenresOnce() {
+        Integer rock = genreDictionary.idOf("Rock");
+        Integer jazz = genreDictionary.idOf("Jazz");
+
+        assertNotEquals(rock, jazz);
+        assertEquals(rock, genreDictionary.idOf("Rock"));
+        assertNull(genreDictionary.idOf(null));
+        verify(genreRepository, times(2)).saveAndFlush(any(Genre.class));
+    }
+
+    @Test
+    void testNameOfLoadsGenresRegisteredElsewhere() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(42))).thenReturn(List.of(new Genre(42, "Blues")));
+
+        assertEquals("Blues", genreDictionary.nameOf(42));
+        assertEquals("Blues", genreDictionary.nameOf(42));
+        assertEquals(42, genreDictionary.idOf("Blues"));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(42));
+        verify(genreRepository, never()).saveAndFlush(any(Genre.class));
+    }
+
+    @Test
+    void testExistingGenresAreLoadedOnCreation() {
+        when(genreRepository.findAll()).thenReturn(List.of(new Genre(7, "Blues"), new Genre(8, "Soul")));
+
+        GenreDictionary restartedDictionary = new GenreDictionary(genreRepository, jdbcTemplate, mock(PlatformTransactionManager.class));
+
+        assertEquals("Blues", restartedDictionary.nameOf(7));
+        assertEquals(8, restartedDictionary.idOf("Soul"));
+        verifyNoInteractions(jdbcTemplate);
+        verify(genreRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    void testNameOfUnknownGenre() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(42))).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> genreDictionary.nameOf(42));
+    }
+
+    @Test
+    void testInternedGenresShrinkCachedTracks() {
+        List<TrackDTO> copiedGenres = new ArrayList<>(TRACK_COUNT);
+        List<TrackDTO> internedGenres = new ArrayList<>(TRACK_COUNT);
+        for (int index = 0; index < TRACK_COUNT; index++) {
+            String genre = GENRES.get(index % GENRES.size());
+            copiedGenres.add(track(index, new String(genre.toCharArray())));
+            internedGenres.add(track(index, genreDictionary.intern(new String(genre.toCharArray()))));
+        }
+
+        long copiedBytes = GraphLayout.parseInstance(copiedGenres).totalSize() / TRACK_COUNT;
+        long internedBytes = GraphLayout.parseInstance(internedGenres).totalSize() / TRACK_COUNT;
+
+        assertTrue(internedBytes + 40 <= copiedBytes, () -> String.format(
+                "Bytes per cached track: %d with a genre string per row, %d with dictionary genres", copiedBytes, internedBytes));
+    }
+
+    private static TrackDTO track(long id, String genre) {
+        return new TrackDTO(id, "Track " + id, genre, 180, 1L);
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.musicmetadataservice.controller.integration;
 
+import com.example.musicmetadataservice.cache.ArtistResponseCache;
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
 import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
 import com.example.musicmetadataservice.model.Artist;
 import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistRotationRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
 import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.ArtistSearchService;
+import com.example.musicmetadataservice.service.ArtistService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
@@ -13,14 +21,33 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
-
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.example.musicmetadataservice.controller.integration.StatementCountAssertions.assertStatementCount;
+import static com.example.musicmetadataservice.controller.integration.StatementCountAssertions.countStatements;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -39,10 +66,43 @@ class ArtistControllerIntegrationTest {
     @Autowired
     TrackRepository trackRepository;
 
+    @Autowired
+    ArtistRotationRepository artistRotationRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @Autowired
+    ArtistResponseCache artistResponseCache;
+
+    @Autowired
+    ArtistService artistService;
+
+    @Autowired
+    ArtistSearchService artistSearchService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
     @BeforeEach
     public void cleanup() {
         trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
         artistRepository.deleteAll();
+        artistRotationRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        artistResponseCache.invalidateAll();
+        artistSearchService.rebuild();
     }
 
     @Test
@@ -84,6 +144,40 @@ class ArtistControllerIntegrationTest {
                 .andExpect(jsonPath("$").value("An artist with the same name already exists"));
     }
 
+    @Test
+    void testAddArtistsInBatch() throws Exception {
+        artistRepository.save(Artist.builder()
+                .name("Existing Batch Artist")
+                .alias("Existing Batch Alias")
+                .build());
+
+        List<ArtistDTO> artistDTOs = List.of(
+                ArtistDTO.builder().name("Batch Artist 1").aliases(Set.of("Batch Alias 1")).build(),
+                ArtistDTO.builder().name("Existing Batch Artist").aliases(Set.of("Batch Alias 2")).build(),
+                ArtistDTO.builder().name("Batch Artist 1").aliases(Set.of("Batch Alias 3")).build(),
+                ArtistDTO.builder().name("Batch Artist 4").build(),
+                ArtistDTO.builder().name("Batch Artist 5").aliases(Set.of("Batch Alias 5")).build());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTOs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$[1].name").value("Existing Batch Artist"))
+                .andExpect(jsonPath("$[2].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$[3].status").value("INVALID"))
+                .andExpect(jsonPath("$[3].error").value("Aliases cannot be null or blank"))
+                .andExpect(jsonPath("$[4].index").value(4))
+                .andExpect(jsonPath("$[4].status").value("CREATED"));
+
+        assertEquals(3, artistRepository.count());
+        assertTrue(artistService.getAllArtists().stream()
+                .anyMatch(artist -> artist.getAliases().contains("Batch Alias 5")));
+    }
+
     @Test
     void testUpdateArtist() throws Exception {
 
@@ -105,12 +199,12 @@ class ArtistControllerIntegrationTest {
                 .aliases(Collections.singleton("Updated Alias"))
                 .build();
 
-        mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
+        assertStatementCount(entityManagerFactory, 5, () -> mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updatedArtist)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Updated Artist Name"))
-                .andExpect(jsonPath("$.aliases[0]").value("Updated Alias"));
+                .andExpect(jsonPath("$.aliases[0]").value("Updated Alias")));
     }
     @Test
     void testUpdateArtist_WhenIdNotMatched_ShouldThrowError() throws Exception {
@@ -199,6 +293,136 @@ class ArtistControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].name").value("Test Artist 12"))
                 .andExpect(jsonPath("$[1].aliases[0]").value("Test Alias 12"));
     }
+    @Test
+    void testGetAllArtists_WithLimit_ShouldReturnNextCursor() throws Exception {
+
+        ArtistDTO artistDTOOne = ArtistDTO.builder()
+                .name("Test Artist 21")
+                .aliases(Collections.singleton("Test Alias 21"))
+                .build();
+
+        ArtistDTO artistDTOTwo = ArtistDTO.builder()
+                .name("Test Artist 22")
+                .aliases(Collections.singleton("Test Alias 22"))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTOOne)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTOTwo)))
+                .andExpect(status().isCreated());
+
+        MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Test Artist 21"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+                .andReturn();
+
+        String next = firstPage.getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("after", next)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Test Artist 22"))
+                .andExpect(jsonPath("$[0].aliases[0]").value("Test Alias 22"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testGetAllArtists_WhenLimitTooLarge_ShouldThrowError() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("limit", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$").value("Limit must be between 1 and 1000"));
+    }
+
+    @Test
+    void testGetAllArtists_QueryCountStaysConstant() throws Exception {
+        saveArtists(0, 10);
+        long smallListingStatements = countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10)));
+
+        saveArtists(10, 1000);
+        long largeListingStatements = countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1000))
+                .andExpect(jsonPath("$[999].aliases[0]").value("Alias 999")));
+
+        assertEquals(2, smallListingStatements);
+        assertEquals(smallListingStatements, largeListingStatements);
+        assertEquals(1, countStatements(entityManagerFactory, () -> assertEquals(1000, artistService.getAllArtists().stream()
+                .mapToInt(artist -> artist.getAliases().size())
+                .sum())));
+        assertEquals(5, countStatements(entityManagerFactory, () -> transactionTemplate.executeWithoutResult(status ->
+                assertEquals(1, artistService.getArtistOfTheDay(LocalDate.now()).getAliases().size()))));
+        assertEquals(2, countStatements(entityManagerFactory, () -> transactionTemplate.executeWithoutResult(status ->
+                assertEquals(1, artistService.getArtistOfTheDay(LocalDate.now()).getAliases().size()))));
+    }
+
+    @Test
+    void testGetArtistByID_LoadsAliasesInOneStatement() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 42")
+                .alias("Test Alias 42")
+                .build()).getId();
+
+        long statements = countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aliases[0]").value("Test Alias 42")));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void testStreamAllArtists() throws Exception {
+
+        ArtistDTO artistDTOOne = ArtistDTO.builder()
+                .name("Test Artist 31")
+                .aliases(Collections.singleton("Test Alias 31"))
+                .build();
+
+        ArtistDTO artistDTOTwo = ArtistDTO.builder()
+                .name("Test Artist 32")
+                .aliases(Collections.singleton("Test Alias 32"))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTOOne)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTOTwo)))
+                .andExpect(status().isCreated());
+
+        MvcResult streamResult = mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(streamResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals("Test Artist 31", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Test Alias 32", objectMapper.readTree(lines[1]).get("aliases").get(0).asText());
+    }
+
     @Test
     void testGetArtistOfTheDay() throws Exception {
 
@@ -212,11 +436,13 @@ class ArtistControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(artistDTO)))
                 .andExpect(status().isCreated());
 
-        mockMvc.perform(MockMvcRequestBuilders.get("/artists/artist-of-the-day")
+        assertStatementCount(entityManagerFactory, 5, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/artist-of-the-day")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Test Artist of The Day 1"))
-                .andExpect(jsonPath("$.aliases[0]").value("Test Alias of The Day 1"));
+                .andExpect(jsonPath("$.aliases[0]").value("Test Alias of The Day 1"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")))
+                .andExpect(header().exists(HttpHeaders.EXPIRES)));
     }
 
     @Test
@@ -241,6 +467,215 @@ class ArtistControllerIntegrationTest {
                 .andExpect(jsonPath("$.aliases[0]").value("Test Alias 41"));
     }
 
+    @Test
+    void testGetArtistByID_IsServedFromCacheUntilUpdated() throws Exception {
+
+        ArtistDTO artistDTO = ArtistDTO.builder()
+                .name("Test Artist 43")
+                .aliases(Collections.singleton("Test Alias 43"))
+                .build();
+
+        ResultActions artistResultActions = mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTO)))
+                .andExpect(status().isCreated());
+
+        Long artistId = objectMapper.readTree(artistResultActions.andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        assertEquals(0, countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Test Artist 43"))
+                .andExpect(jsonPath("$.aliases[0]").value("Test Alias 43"))));
+
+        ArtistDTO updatedArtistDTO = ArtistDTO.builder()
+                .id(artistId)
+                .name("Updated Artist 43")
+                .aliases(Collections.singleton("Updated Alias 43"))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedArtistDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Updated Artist 43"))
+                .andExpect(jsonPath("$.aliases[0]").value("Updated Alias 43"));
+
+        assertEquals(0, countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Updated Artist 43"))));
+    }
+
+    @Test
+    void testGetArtistByID_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 44")
+                .alias("Test Alias 44")
+                .build()).getId();
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertEquals(0, countStatements(entityManagerFactory, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ArtistDTO.builder()
+                                .id(artistId)
+                                .name("Updated Artist 44")
+                                .aliases(Collections.singleton("Updated Alias 44"))
+                                .build())))
+                .andExpect(status().isOk());
+
+        String updatedETag = mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Updated Artist 44"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertTrue(!eTag.equals(updatedETag));
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .header(HttpHeaders.IF_NONE_MATCH, updatedETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetArtistsByIds() throws Exception {
+        List<Long> artistIds = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            artistIds.add(artistRepository.save(Artist.builder()
+                    .name("Multi Artist " + index)
+                    .alias("Multi Alias " + index)
+                    .alias("Other Alias " + index)
+                    .build()).getId());
+        }
+        Long missingId = artistIds.get(2) + 1000;
+
+        assertStatementCount(entityManagerFactory, 1, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("ids", artistIds.get(2) + "," + missingId + "," + artistIds.get(0) + "," + artistIds.get(1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].id").value(artistIds.get(2)))
+                .andExpect(jsonPath("$.items[0].aliases.length()").value(2))
+                .andExpect(jsonPath("$.items[1].id").value(artistIds.get(0)))
+                .andExpect(jsonPath("$.items[2].id").value(artistIds.get(1)))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId)));
+    }
+
+    @Test
+    void testGetArtistsByIds_WhenTooManyIds_ShouldThrowError() throws Exception {
+        String ids = LongStream.rangeClosed(1, 201).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetArtistStats() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Stats Artist")
+                .alias("Stats Alias")
+                .build()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/{id}/stats", artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artistId").value(artistId))
+                .andExpect(jsonPath("$.trackCount").value(0))
+                .andExpect(jsonPath("$.totalLength").value(0));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TrackDTO.builder()
+                                .title("Stats Track 1").genre("Rock").length(180).artistId(artistId).build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                TrackDTO.builder().title("Stats Track 2").genre("Rock").length(200).artistId(artistId).build(),
+                                TrackDTO.builder().title("Stats Track 3").genre("Jazz").length(220).artistId(artistId).build(),
+                                TrackDTO.builder().title("Stats Track 4").genre("Jazz").length(0).artistId(artistId).build()))))
+                .andExpect(status().isOk());
+
+        assertStatementCount(entityManagerFactory, 1, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/{id}/stats", artistId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trackCount").value(3))
+                .andExpect(jsonPath("$.totalLength").value(600))
+                .andExpect(jsonPath("$.genres.Rock").value(2))
+                .andExpect(jsonPath("$.genres.Jazz").value(1)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/{id}/stats", artistId + 1000))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSearchArtists() throws Exception {
+
+        ArtistDTO artistDTO = ArtistDTO.builder()
+                .name("Search Artist")
+                .aliases(Collections.singleton("Searchable Alias"))
+                .build();
+
+        ResultActions artistResultActions = mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(artistDTO)))
+                .andExpect(status().isCreated());
+
+        Long artistId = objectMapper.readTree(artistResultActions.andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/artists/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(ArtistDTO.builder()
+                                .name("Batch Search Artist")
+                                .aliases(Set.of("Searchable Batch Alias"))
+                                .build()))))
+                .andExpect(status().isOk());
+
+        assertStatementCount(entityManagerFactory, 0, () -> mockMvc.perform(MockMvcRequestBuilders.get("/artists/search")
+                        .param("q", "searchable a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(artistId))
+                .andExpect(jsonPath("$[0].name").value("Search Artist"))
+                .andExpect(jsonPath("$[0].match").value("Searchable Alias")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/search")
+                        .param("q", "SEARCHABLE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        ArtistDTO updatedArtistDTO = ArtistDTO.builder()
+                .id(artistId)
+                .name("Renamed Artist")
+                .aliases(Collections.singleton("Renamed Alias"))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedArtistDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/search")
+                        .param("q", "searchable"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Batch Search Artist"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/search")
+                        .param("q", "renamed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(artistId));
+    }
+
     @Test
     void testGetArtistByID_WhenArtistNotAvailable_ShouldThrowError() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/artists/100")
@@ -248,4 +683,15 @@ class ArtistControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$").value("Artist not found with id 100"));
     }
+
+    private void saveArtists(int fromIndex, int toIndex) {
+        List<Artist> artists = new ArrayList<>();
+        for (int index = fromIndex; index < toIndex; index++) {
+            artists.add(Artist.builder()
+                    .name("Artist " + index)
+                    .alias("Alias " + index)
+                    .build());
+        }
+        artistRepository.saveAll(artists);
+    }
 }
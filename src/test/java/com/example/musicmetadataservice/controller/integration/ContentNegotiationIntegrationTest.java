@@ -0,0 +1,213 @@
+package com.example.musicmetadataservice.controller.integration;
+
+import com.example.musicmetadataservice.cache.ArtistResponseCache;
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.TrackSearchService;
+import com.example.musicmetadataservice.service.TrackService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+public class ContentNegotiationIntegrationTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final int TRACK_COUNT = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    ArtistRepository artistRepository;
+
+    @Autowired
+    TrackRepository trackRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    TrackService trackService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @Autowired
+    ArtistResponseCache artistResponseCache;
+
+    @Autowired
+    TrackSearchService trackSearchService;
+
+    private Long artistId;
+
+    @BeforeEach
+    public void setup() {
+        trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
+        artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        artistResponseCache.invalidateAll();
+        trackSearchService.rebuild();
+
+        artistId = artistRepository.save(Artist.builder()
+                .name("Encoded Artist")
+                .alias("Encoded Alias")
+                .build()).getId();
+        List<TrackDTO> trackDTOs = new ArrayList<>(TRACK_COUNT);
+        for (int index = 0; index < TRACK_COUNT; index++) {
+            trackDTOs.add(TrackDTO.builder()
+                    .title("Encoded Track " + index)
+                    .genre(index % 2 == 0 ? "Pop" : "Rock")
+                    .length(180 + index)
+                    .artistId(artistId)
+                    .build());
+        }
+        trackService.addTracks(trackDTOs);
+    }
+
+    @Test
+    void testJsonIsServedByDefault() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testFindTracksByArtistId_AsCbor() throws Exception {
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] json = mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<TrackDTO> trackDTOs = new ObjectMapper(new CBORFactory()).readValue(body, new TypeReference<>() {
+        });
+        assertEquals(TRACK_COUNT, trackDTOs.size());
+        assertEquals("Encoded Track 0", trackDTOs.get(0).getTitle());
+        assertEquals(artistId, trackDTOs.get(0).getArtistId());
+        assertTrue(body.length < json.length);
+    }
+
+    @Test
+    void testGetArtistsByIds_AsSmile() throws Exception {
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/artists")
+                        .param("ids", artistId + ",-1")
+                        .accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode result = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals("Encoded Artist", result.get("items").get(0).get("name").asText());
+        assertEquals(-1, result.get("missingIds").get(0).asLong());
+    }
+
+    @Test
+    void testGetArtistById_ServesCachedBytesPerFormatUntilUpdated() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Encoded Artist"));
+        byte[] cbor = mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Encoded Artist", new ObjectMapper(new CBORFactory()).readTree(cbor).get("name").asText());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/artists/{id}", artistId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ArtistDTO.builder()
+                                .id(artistId)
+                                .name("Re-encoded Artist")
+                                .aliases(Collections.singleton("Encoded Alias"))
+                                .build())))
+                .andExpect(status().isOk());
+
+        cbor = mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Re-encoded Artist", new ObjectMapper(new CBORFactory()).readTree(cbor).get("name").asText());
+    }
+
+    @Test
+    void testJsonResponsesAreGzipped() throws Exception {
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            HttpResponse<byte[]> json = httpClient.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/tracks/artist/" + artistId))
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, json.statusCode());
+            assertEquals("gzip", json.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+            assertTrue(json.headers().allValues(HttpHeaders.VARY).stream()
+                    .flatMap(vary -> Arrays.stream(vary.split(",")))
+                    .anyMatch(vary -> vary.trim().equalsIgnoreCase(HttpHeaders.ACCEPT)));
+            try (InputStream body = new GZIPInputStream(new ByteArrayInputStream(json.body()))) {
+                assertEquals(TRACK_COUNT, objectMapper.readTree(body).size());
+            }
+
+            HttpResponse<byte[]> cbor = httpClient.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/tracks/artist/" + artistId))
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, cbor.statusCode());
+            assertTrue(cbor.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        }
+    }
+}
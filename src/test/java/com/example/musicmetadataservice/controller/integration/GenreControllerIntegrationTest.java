@@ -0,0 +1,105 @@
+package com.example.musicmetadataservice.controller.integration;
+
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.Track;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.GenreFacetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GenreControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    ArtistRepository artistRepository;
+
+    @Autowired
+    TrackRepository trackRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @Autowired
+    GenreFacetService genreFacetService;
+
+    @BeforeEach
+    public void cleanup() {
+        trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
+        artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        genreFacetService.rebuild();
+    }
+
+    @Test
+    void testGetGenres() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder().name("Genre Artist 1").alias("Genre Alias 1").build());
+        Artist otherArtist = artistRepository.save(Artist.builder().name("Genre Artist 2").alias("Genre Alias 2").build());
+        trackRepository.save(Track.builder().title("Existing Track").genre("Rock").length(100).artist(artist).build());
+        genreFacetService.rebuild();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                TrackDTO.builder().title("Track 1").genre("Rock").length(200).artistId(otherArtist.getId()).build(),
+                                TrackDTO.builder().title("Track 2").genre("Rock").length(300).artistId(otherArtist.getId()).build(),
+                                TrackDTO.builder().title("Track 3").genre("Jazz").length(400).artistId(artist.getId()).build()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/genres"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].genre").value("Rock"))
+                .andExpect(jsonPath("$[0].trackCount").value(3))
+                .andExpect(jsonPath("$[0].artistCount").value(2))
+                .andExpect(jsonPath("$[0].totalLength").value(600))
+                .andExpect(jsonPath("$[1].genre").value("Jazz"))
+                .andExpect(jsonPath("$[1].trackCount").value(1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/genres/{genre}/artists", "Rock")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].artistId").value(otherArtist.getId()))
+                .andExpect(jsonPath("$[0].name").value("Genre Artist 2"))
+                .andExpect(jsonPath("$[0].trackCount").value(2))
+                .andExpect(jsonPath("$[0].totalLength").value(500));
+    }
+
+    @Test
+    void testGetTopArtists_WhenGenreNotAvailable_ShouldThrowError() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/genres/{genre}/artists", "Polka"))
+                .andExpect(status().isNotFound());
+    }
+}
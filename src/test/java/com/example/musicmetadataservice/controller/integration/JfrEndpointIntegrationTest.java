@@ -0,0 +1,173 @@
+package com.example.musicmetadataservice.controller.integration;
+
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoint.jfr.enabled=true")
+@AutoConfigureMockMvc
+@DirtiesContext
+public class JfrEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    ArtistRepository artistRepository;
+
+    @Autowired
+    TrackRepository trackRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @BeforeEach
+    public void setup() {
+        trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
+        artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/actuator/jfr"));
+    }
+
+    @Test
+    void testRecordingCapturesServiceEvents() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Recorded Artist")
+                .alias("Recorded Alias")
+                .build()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("music-metadata-service"))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.settings").value("default"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TrackDTO.builder()
+                                .title("Recorded Track")
+                                .genre("Pop")
+                                .length(180)
+                                .artistId(artistId)
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/artist-of-the-day")).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/artist-of-the-day")).andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+
+        byte[] recording = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/jfr/music-metadata-service"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        List<RecordedEvent> events = readEvents(recording);
+
+        List<RecordedEvent> lookups = eventsOf(events, "com.example.musicmetadataservice.ArtistLookup");
+        assertEquals(2, lookups.size());
+        assertEquals(artistId, lookups.get(0).getLong("artistId"));
+        assertTrue(lookups.get(0).getBoolean("found"));
+        assertFalse(lookups.get(0).getBoolean("cacheHit"));
+        assertTrue(lookups.get(1).getBoolean("cacheHit"));
+
+        List<RecordedEvent> inserts = eventsOf(events, "com.example.musicmetadataservice.TrackInsert");
+        assertEquals(1, inserts.size());
+        assertEquals(artistId, inserts.get(0).getLong("artistId"));
+        assertEquals(1, inserts.get(0).getInt("requested"));
+        assertEquals(1, inserts.get(0).getInt("inserted"));
+
+        List<RecordedEvent> reads = eventsOf(events, "com.example.musicmetadataservice.ArtistTracksRead");
+        assertEquals(2, reads.size());
+        assertEquals(1, reads.get(0).getInt("resultSize"));
+        assertFalse(reads.get(0).getBoolean("cacheHit"));
+        assertTrue(reads.get(1).getBoolean("cacheHit"));
+
+        List<RecordedEvent> artistsOfTheDay = eventsOf(events, "com.example.musicmetadataservice.ArtistOfTheDay");
+        assertEquals(2, artistsOfTheDay.size());
+        assertEquals(artistsOfTheDay.get(0).getLong("artistId"), artistsOfTheDay.get(1).getLong("artistId"));
+        assertTrue(artistsOfTheDay.get(1).getBoolean("cacheHit"));
+
+        assertTrue(eventsOf(events, "jdk.InitialEnvironmentVariable").isEmpty());
+        assertTrue(eventsOf(events, "jdk.InitialSystemProperty").isEmpty());
+    }
+
+    @Test
+    void testUnknownRecordingIsNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/jfr/other")).andExpect(status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\":\"unknown\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<RecordedEvent> readEvents(byte[] recording) throws Exception {
+        Path file = Files.createTempFile("jfr-endpoint-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+                .toList();
+    }
+}
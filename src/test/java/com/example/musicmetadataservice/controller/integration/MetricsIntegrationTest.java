@@ -0,0 +1,130 @@
+package com.example.musicmetadataservice.controller.integration;
+
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "requests.statement-budget=1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    ArtistRepository artistRepository;
+
+    @Autowired
+    TrackRepository trackRepository;
+
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @BeforeEach
+    public void setup() {
+        trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
+        artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        meterRegistry.clear();
+    }
+
+    @Test
+    void testStatementsPerRequestAreRecorded() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Metrics Artist")
+                .alias("Metrics Alias")
+                .build()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.db.statements")
+                .tag("method", "GET")
+                .tag("uri", "/artists/{id}")
+                .summary();
+        assertEquals(2, statements.count());
+        assertEquals(1, statements.totalAmount());
+        assertEquals(1, statements.max());
+    }
+
+    @Test
+    void testRequestsOverStatementBudgetAreCounted() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Budget Artist")
+                .alias("Budget Alias")
+                .build()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/artist-of-the-day")).andExpect(status().isOk());
+
+        assertNull(meterRegistry.find("http.server.requests.db.statements.over.budget")
+                .tag("uri", "/artists/{id}")
+                .counter());
+        assertEquals(1, meterRegistry.get("http.server.requests.db.statements.over.budget")
+                .tag("method", "GET")
+                .tag("uri", "/artists/artist-of-the-day")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void testPrometheusScrapeExposesServiceAndRepositoryPercentiles() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Scraped Artist")
+                .alias("Scraped Alias")
+                .build()).getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/artists/" + artistId)).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)).andExpect(status().isNotFound());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("artist_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getArtistById\"")))
+                .andExpect(content().string(containsString("track_service_seconds{")))
+                .andExpect(content().string(containsString("method=\"findTracksByArtistId\"")))
+                .andExpect(content().string(containsString("quantile=\"0.99\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("repository=\"TrackRepository\"")))
+                .andExpect(content().string(containsString("http_server_requests_db_statements_count{")));
+    }
+
+    @Test
+    void testJfrEndpointIsDisabledByDefault() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.prometheus").exists())
+                .andExpect(jsonPath("$._links.jfr").doesNotExist());
+    }
+}
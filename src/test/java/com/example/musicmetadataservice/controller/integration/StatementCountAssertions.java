@@ -0,0 +1,36 @@
+package com.example.musicmetadataservice.controller.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    public static long countStatements(EntityManagerFactory entityManagerFactory, Executable executable) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            executable.execute();
+            return statistics.getPrepareStatementCount();
+        } catch (Error | RuntimeException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new AssertionError(throwable);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public static void assertStatementCount(EntityManagerFactory entityManagerFactory, long expected,
+                                            Executable executable) {
+        assertEquals(expected, countStatements(entityManagerFactory, executable),
+                "Unexpected number of SQL statements");
+    }
+}
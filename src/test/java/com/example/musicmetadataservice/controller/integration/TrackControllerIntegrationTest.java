@@ -1,10 +1,21 @@
 package com.example.musicmetadataservice.controller.integration;
 
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.cache.GenreDictionary;
 import com.example.musicmetadataservice.dto.ArtistDTO;
 import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.Genre;
+import com.example.musicmetadataservice.model.Track;
 import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import com.example.musicmetadataservice.repository.GenreRepository;
 import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.TrackSearchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,13 +23,27 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.ArrayList;
 import java.util.Collections;
-
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.musicmetadataservice.controller.integration.StatementCountAssertions.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,10 +63,38 @@ public class TrackControllerIntegrationTest {
     @Autowired
     TrackRepository trackRepository;
 
+    @Autowired
+    ArtistStatsRepository artistStatsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ArtistTracksCache artistTracksCache;
+
+    @Autowired
+    TrackSearchService trackSearchService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    GenreDictionary genreDictionary;
+
+    @Autowired
+    GenreRepository genreRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     public void cleanup() {
         trackRepository.deleteAll();
+        artistStatsRepository.deleteAll();
         artistRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        artistTracksCache.invalidateAll();
+        trackSearchService.rebuild();
     }
     @Test
     void testAddTrack() throws Exception {
@@ -76,6 +129,70 @@ public class TrackControllerIntegrationTest {
     }
 
 
+    @Test
+    void testAddTrack_ShouldNotLoadArtist() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 19")
+                .alias("Test Alias 19")
+                .build()).getId();
+
+        TrackDTO trackDTO = TrackDTO.builder()
+                .title("Test Track 19")
+                .genre("Pop")
+                .length(180)
+                .artistId(artistId)
+                .build();
+        genreDictionary.intern("Pop");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(trackDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.artistId").value(artistId));
+
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(1, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void testAddTrack_WhenArtistNotAvailable_ShouldThrowError() throws Exception {
+        TrackDTO trackDTO = TrackDTO.builder()
+                .title("Test Track 1")
+                .genre("Pop")
+                .length(180)
+                .artistId(100L)
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trackDTO)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$").value("Artist not found with id 100"));
+    }
+
+    @Test
+    void testAddTrack_WhenTitleTooLong_ShouldNotReportMissingArtist() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder().name("Test Artist 1").build());
+        TrackDTO trackDTO = TrackDTO.builder()
+                .title("T".repeat(256))
+                .genre("Pop")
+                .length(180)
+                .artistId(artist.getId())
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trackDTO)))
+                .andExpect(status().isInternalServerError());
+    }
+
     @Test
     void testFindTracksByArtistId() throws Exception {
 
@@ -128,6 +245,316 @@ public class TrackControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].artistId").value(artistId));
     }
 
+    @Test
+    void testFindTracksByArtistIds() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder().name("Test Artist 24").alias("Test Alias 24").build());
+        Artist artistWithoutTracks = artistRepository.save(Artist.builder().name("Test Artist 25").alias("Test Alias 25").build());
+        Artist otherArtist = artistRepository.save(Artist.builder().name("Test Artist 26").alias("Test Alias 26").build());
+        for (Artist trackArtist : List.of(artist, otherArtist)) {
+            for (int index = 0; index < 3; index++) {
+                trackRepository.save(Track.builder()
+                        .title(trackArtist.getName() + " Track " + index)
+                        .genre("Pop")
+                        .length(180)
+                        .artist(trackArtist)
+                        .build());
+            }
+        }
+        Long missingId = otherArtist.getId() + 1000;
+
+        assertStatementCount(entityManagerFactory, 2, () -> mockMvc.perform(MockMvcRequestBuilders.get("/tracks/by-artists")
+                        .param("ids", otherArtist.getId() + "," + missingId + "," + artistWithoutTracks.getId() + "," + artist.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].artistId").value(otherArtist.getId()))
+                .andExpect(jsonPath("$.items[0].tracks.length()").value(3))
+                .andExpect(jsonPath("$.items[0].tracks[0].title").value("Test Artist 26 Track 0"))
+                .andExpect(jsonPath("$.items[1].artistId").value(artistWithoutTracks.getId()))
+                .andExpect(jsonPath("$.items[1].tracks.length()").value(0))
+                .andExpect(jsonPath("$.items[2].artistId").value(artist.getId()))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId)));
+    }
+
+    @Test
+    void testFindTracksByArtistId_ShouldNotLoadEntities() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder()
+                .name("Test Artist 15")
+                .alias("Test Alias 15")
+                .build());
+        for (int index = 0; index < 100; index++) {
+            trackRepository.save(Track.builder()
+                    .title("Test Track " + index)
+                    .genre("Pop")
+                    .length(180)
+                    .artist(artist)
+                    .build());
+        }
+
+        assertStatementCount(entityManagerFactory, 1, () -> mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(100))
+                .andExpect(jsonPath("$[99].title").value("Test Track 99"))
+                .andExpect(jsonPath("$[99].artistId").value(artist.getId())));
+    }
+
+    @Test
+    void testFindTracksByArtistId_AddedTracksAreAppendedToCachedList() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder()
+                .name("Test Artist 18")
+                .alias("Test Alias 18")
+                .build());
+        trackRepository.save(Track.builder()
+                .title("Cached Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(artist)
+                .build());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        TrackDTO trackDTO = TrackDTO.builder()
+                .title("Cached Track 2")
+                .genre("Rock")
+                .length(200)
+                .artistId(artist.getId())
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trackDTO)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(TrackDTO.builder()
+                                .title("Cached Track 3")
+                                .genre("Jazz")
+                                .length(220)
+                                .artistId(artist.getId())
+                                .build()))))
+                .andExpect(status().isOk());
+
+        assertStatementCount(entityManagerFactory, 0, () -> mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[1].title").value("Cached Track 2"))
+                .andExpect(jsonPath("$[2].title").value("Cached Track 3")));
+    }
+
+    @Test
+    void testFindTracksByArtistId_WhenGenreRegisteredByAnotherInstance() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder()
+                .name("Test Artist 28")
+                .alias("Test Alias 28")
+                .build());
+        Integer genreId = genreRepository.save(Genre.builder().name("Genre From Another Instance").build()).getId();
+        jdbcTemplate.update("insert into tracks (id, title, genre_id, length, artist_id) values (next value for tracks_seq, ?, ?, ?, ?)",
+                "Imported Track 1", genreId, 180, artist.getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Imported Track 1"))
+                .andExpect(jsonPath("$[0].genre").value("Genre From Another Instance"));
+    }
+
+    @Test
+    void testFindTracksByArtistId_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        Artist artist = artistRepository.save(Artist.builder()
+                .name("Test Artist 27")
+                .alias("Test Alias 27")
+                .build());
+        trackRepository.save(Track.builder()
+                .title("Polled Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(artist)
+                .build());
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertStatementCount(entityManagerFactory, 0, () -> mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string("")));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TrackDTO.builder()
+                                .title("Polled Track 2")
+                                .genre("Pop")
+                                .length(200)
+                                .artistId(artist.getId())
+                                .build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artist.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testAddTracksInBatch() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 16")
+                .alias("Test Alias 16")
+                .build()).getId();
+
+        List<TrackDTO> trackDTOs = List.of(
+                TrackDTO.builder().title("Batch Track 1").genre("Pop").length(180).artistId(artistId).build(),
+                TrackDTO.builder().genre("Pop").length(180).artistId(artistId).build(),
+                TrackDTO.builder().title("Batch Track 3").genre("Pop").length(180).artistId(artistId + 1000).build(),
+                TrackDTO.builder().title("Batch Track 4").genre("Rock").length(200).artistId(artistId).build());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trackDTOs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].error").value("Title cannot be empty or blank"))
+                .andExpect(jsonPath("$[2].status").value("ARTIST_NOT_FOUND"))
+                .andExpect(jsonPath("$[2].error").value("Artist not found with id " + (artistId + 1000)))
+                .andExpect(jsonPath("$[3].index").value(3))
+                .andExpect(jsonPath("$[3].status").value("CREATED"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/artist/" + artistId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Batch Track 1"))
+                .andExpect(jsonPath("$[1].title").value("Batch Track 4"));
+    }
+
+    @Test
+    void testAddTracksInBatch_AsNdjson() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 17")
+                .alias("Test Alias 17")
+                .build()).getId();
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int index = 0; index < 2500; index++) {
+            ndjson.append(objectMapper.writeValueAsString(TrackDTO.builder()
+                            .title("Streamed Track " + index)
+                            .genre("Pop")
+                            .length(180)
+                            .artistId(artistId)
+                            .build()))
+                    .append('\n');
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2500))
+                .andExpect(jsonPath("$[2499].index").value(2499))
+                .andExpect(jsonPath("$[2499].status").value("CREATED"));
+
+        assertEquals(2500, trackRepository.count());
+    }
+
+    @Test
+    void testAddTrack_ConcurrentFirstTracksOfArtistAndGenre() throws Exception {
+        ResultActions artistResultActions = mockMvc.perform(MockMvcRequestBuilders.post("/artists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ArtistDTO.builder().name("Concurrent Artist 1").aliases(Collections.singleton("Concurrent Alias 1")).build())))
+                .andExpect(status().isCreated());
+        Long createdArtistId = objectMapper.readTree(artistResultActions.andReturn().getResponse().getContentAsString()).get("id").asLong();
+        Long importedArtistId = artistRepository.save(Artist.builder().name("Concurrent Artist 2").build()).getId();
+        List<Long> artistIds = List.of(createdArtistId, importedArtistId);
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int index = 0; index < requests; index++) {
+                TrackDTO trackDTO = TrackDTO.builder()
+                        .title("Concurrent Track " + index)
+                        .genre("Concurrent Genre " + (index / 4 % 2))
+                        .length(100)
+                        .artistId(artistIds.get(index % 2))
+                        .build();
+                MockHttpServletRequestBuilder request = index / 2 % 2 == 0
+                        ? MockMvcRequestBuilders.post("/tracks").content(objectMapper.writeValueAsString(trackDTO))
+                        : MockMvcRequestBuilders.post("/tracks/batch").content(objectMapper.writeValueAsString(List.of(trackDTO)));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON)).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (int index = 0; index < requests; index++) {
+                assertEquals(index / 2 % 2 == 0 ? 201 : 200, futures.get(index).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Long artistId : artistIds) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/artists/{id}/stats", artistId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.trackCount").value(requests / 2))
+                    .andExpect(jsonPath("$.totalLength").value(requests / 2 * 100))
+                    .andExpect(jsonPath("$.genres['Concurrent Genre 0']").value(requests / 4))
+                    .andExpect(jsonPath("$.genres['Concurrent Genre 1']").value(requests / 4));
+        }
+    }
+
+    @Test
+    void testSearchTracks() throws Exception {
+        Long artistId = artistRepository.save(Artist.builder()
+                .name("Test Artist 23")
+                .alias("Test Alias 23")
+                .build()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TrackDTO.builder()
+                                .title("Midnight Train")
+                                .genre("Soul")
+                                .length(240)
+                                .artistId(artistId)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                TrackDTO.builder().title("Midnight City").genre("Electronic").length(244).artistId(artistId).build(),
+                                TrackDTO.builder().title("Morning Glory").genre("Rock").length(303).artistId(artistId).build()))))
+                .andExpect(status().isOk());
+
+        assertStatementCount(entityManagerFactory, 0, () -> mockMvc.perform(MockMvcRequestBuilders.get("/tracks/search")
+                        .param("q", "midnite"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/search")
+                        .param("q", "midnight")
+                        .param("genre", "soul")
+                        .param("artistId", artistId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Midnight Train"))
+                .andExpect(jsonPath("$[0].genre").value("Soul"))
+                .andExpect(jsonPath("$[0].artistId").value(artistId));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tracks/search")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testAddTrack_WhenTitleNull_ShouldThrowError() throws Exception {
 
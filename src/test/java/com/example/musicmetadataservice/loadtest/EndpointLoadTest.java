@@ -0,0 +1,300 @@
+package com.example.musicmetadataservice.loadtest;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.service.TrackService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EndpointLoadTest {
+
+    private static final String BASELINES_RESOURCE = "/loadtest-baselines.properties";
+    private static final Path BASELINES_FILE = Path.of("src/test/resources/loadtest-baselines.properties");
+    private static final int ARTIST_COUNT = 1_000;
+    private static final int TRACKS_PER_ARTIST = 5;
+    private static final int PAGE_LIMIT = 20;
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private TrackService trackService;
+
+    @Value("${loadtest.mix:artists=20,artist=35,artist-of-the-day=10,add-track=10,artist-tracks=25}")
+    private String mix;
+
+    @Value("${loadtest.clients:32}")
+    private int clients;
+
+    @Value("${loadtest.warm-up:5s}")
+    private Duration warmUp;
+
+    @Value("${loadtest.duration:20s}")
+    private Duration duration;
+
+    @Value("${loadtest.max-p99-increase:0.5}")
+    private double maxP99Increase;
+
+    @Value("${loadtest.max-throughput-drop:0.3}")
+    private double maxThroughputDrop;
+
+    @Value("${loadtest.record-baselines:false}")
+    private boolean recordBaselines;
+
+    private List<Long> artistIds;
+
+    @Test
+    void endpointLatencyAndThroughputStayWithinBaselines() throws Exception {
+        Properties baselines = recordBaselines ? null : loadBaselines();
+        artistIds = seed();
+        Map<Endpoint, Integer> weights = parseMix(mix);
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        weights.keySet().forEach(endpoint -> histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3)));
+        AtomicLong failures;
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            run(httpClient, weights, warmUp, null);
+            failures = run(httpClient, weights, duration, histograms);
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("Load test: %d clients for %s, mix %s%n", clients, duration, mix);
+        System.out.printf("%-18s %9s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        histograms.forEach((endpoint, histogram) -> System.out.printf("%-18s %9d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.key, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue())));
+
+        assertEquals(0, failures.get(), "Requests failed during the load test");
+        if (recordBaselines) {
+            writeBaselines(histograms, seconds);
+            return;
+        }
+        List<String> regressions = compareWithBaselines(baselines, histograms, seconds);
+        assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+    }
+
+    private AtomicLong run(HttpClient httpClient, Map<Endpoint, Integer> weights, Duration runTime,
+                           Map<Endpoint, Histogram> histograms) throws Exception {
+        Endpoint[] schedule = schedule(weights);
+        AtomicLong failures = new AtomicLong();
+        long deadline = System.nanoTime() + runTime.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                Random random = new Random(client);
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = schedule[random.nextInt(schedule.length)];
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request(endpoint, random),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != endpoint.expectedStatus) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException exception) {
+                            failures.incrementAndGet();
+                        }
+                        if (histograms != null) {
+                            histograms.get(endpoint).recordValue(Math.min((System.nanoTime() - start) / 1_000, HIGHEST_TRACKABLE_MICROS));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return failures;
+    }
+
+    private HttpRequest request(Endpoint endpoint, Random random) throws IOException {
+        Long artistId = artistIds.get(random.nextInt(artistIds.size()));
+        HttpRequest.Builder builder = HttpRequest.newBuilder();
+        return switch (endpoint) {
+            case ARTISTS -> builder.uri(uri("/artists?after=" + (artistId - 1) + "&limit=" + PAGE_LIMIT)).GET().build();
+            case ARTIST -> builder.uri(uri("/artists/" + artistId)).GET().build();
+            case ARTIST_OF_THE_DAY -> builder.uri(uri("/artists/artist-of-the-day")).GET().build();
+            case ADD_TRACK -> builder.uri(uri("/tracks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(TrackDTO.builder()
+                            .title("Load Track " + random.nextInt(1_000_000))
+                            .genre(random.nextBoolean() ? "Pop" : "Rock")
+                            .length(120 + random.nextInt(240))
+                            .artistId(artistId)
+                            .build())))
+                    .build();
+            case ARTIST_TRACKS -> builder.uri(uri("/tracks/artist/" + artistId)).GET().build();
+        };
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private List<Long> seed() {
+        List<Artist> artists = new ArrayList<>(ARTIST_COUNT);
+        for (int index = 0; index < ARTIST_COUNT; index++) {
+            artists.add(Artist.builder().name("Load Artist " + index).alias("Load Alias " + index).build());
+        }
+        List<Long> ids = artistRepository.saveAll(artists).stream().map(Artist::getId).toList();
+        List<TrackDTO> trackDTOs = new ArrayList<>(ARTIST_COUNT * TRACKS_PER_ARTIST);
+        for (Long artistId : ids) {
+            for (int index = 0; index < TRACKS_PER_ARTIST; index++) {
+                trackDTOs.add(TrackDTO.builder()
+                        .title("Seed Track " + artistId + "-" + index)
+                        .genre(index % 2 == 0 ? "Pop" : "Rock")
+                        .length(180 + index)
+                        .artistId(artistId)
+                        .build());
+            }
+        }
+        trackService.addTracks(trackDTOs);
+        return ids;
+    }
+
+    private Properties loadBaselines() throws IOException {
+        Properties baselines = new Properties();
+        try (InputStream inputStream = getClass().getResourceAsStream(BASELINES_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("No baselines found; run with -Dloadtest.record-baselines=true first");
+            }
+            baselines.load(inputStream);
+        }
+        if (!mix.equals(baselines.getProperty("mix")) || clients != Integer.parseInt(baselines.getProperty("clients"))) {
+            Assumptions.abort(String.format("Baselines were recorded for mix %s with %s clients, not mix %s with %d clients; "
+                            + "re-record them with -Dloadtest.record-baselines=true",
+                    baselines.getProperty("mix"), baselines.getProperty("clients"), mix, clients));
+        }
+        return baselines;
+    }
+
+    private List<String> compareWithBaselines(Properties baselines, Map<Endpoint, Histogram> histograms, double seconds) {
+        List<String> regressions = new ArrayList<>();
+        histograms.forEach((endpoint, histogram) -> {
+            double p99 = millis(histogram.getValueAtPercentile(99));
+            double throughput = histogram.getTotalCount() / seconds;
+            double baselineP99 = Double.parseDouble(baselines.getProperty(endpoint.key + ".p99-ms"));
+            double baselineThroughput = Double.parseDouble(baselines.getProperty(endpoint.key + ".throughput"));
+            if (p99 > baselineP99 * (1 + maxP99Increase)) {
+                regressions.add(String.format("%s p99 %.2f ms exceeds baseline %.2f ms by more than %.0f%%",
+                        endpoint.key, p99, baselineP99, maxP99Increase * 100));
+            }
+            if (throughput < baselineThroughput * (1 - maxThroughputDrop)) {
+                regressions.add(String.format("%s throughput %.1f req/s is below baseline %.1f req/s by more than %.0f%%",
+                        endpoint.key, throughput, baselineThroughput, maxThroughputDrop * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private void writeBaselines(Map<Endpoint, Histogram> histograms, double seconds) throws IOException {
+        StringBuilder baselines = new StringBuilder()
+                .append("# Recorded by EndpointLoadTest with -Dloadtest.record-baselines=true\n")
+                .append("mix=").append(mix).append('\n')
+                .append("clients=").append(clients).append('\n');
+        histograms.forEach((endpoint, histogram) -> baselines
+                .append(endpoint.key).append(".p99-ms=")
+                .append(String.format("%.2f", millis(histogram.getValueAtPercentile(99)))).append('\n')
+                .append(endpoint.key).append(".throughput=")
+                .append(String.format("%.1f", histogram.getTotalCount() / seconds)).append('\n'));
+        Files.writeString(BASELINES_FILE, baselines);
+        System.out.println("Baselines written to " + BASELINES_FILE.toAbsolutePath());
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] keyAndWeight = entry.trim().split("=");
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.of(keyAndWeight[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The load test mix must give at least one endpoint a positive weight");
+        }
+        return weights;
+    }
+
+    private static Endpoint[] schedule(Map<Endpoint, Integer> weights) {
+        List<Endpoint> schedule = new ArrayList<>();
+        weights.forEach((endpoint, weight) -> {
+            for (int index = 0; index < weight; index++) {
+                schedule.add(endpoint);
+            }
+        });
+        return schedule.toArray(Endpoint[]::new);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private enum Endpoint {
+        ARTISTS("artists", 200),
+        ARTIST("artist", 200),
+        ARTIST_OF_THE_DAY("artist-of-the-day", 200),
+        ADD_TRACK("add-track", 201),
+        ARTIST_TRACKS("artist-tracks", 200);
+
+        private final String key;
+        private final int expectedStatus;
+
+        Endpoint(String key, int expectedStatus) {
+            this.key = key;
+            this.expectedStatus = expectedStatus;
+        }
+
+        static Endpoint of(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.key.equals(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Unknown load test endpoint: " + key);
+        }
+    }
+}
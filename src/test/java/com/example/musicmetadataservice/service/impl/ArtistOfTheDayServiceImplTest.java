@@ -0,0 +1,126 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistOfTheDayDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.exception.NoArtistAvailableException;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.service.ArtistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArtistOfTheDayServiceImplTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    @Mock
+    private ArtistService artistService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArtistOfTheDayServiceImpl artistOfTheDayService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        artistOfTheDayService = artistOfTheDayService("2024-05-15T10:00:00Z", "0 0 0 * * *");
+    }
+
+    private ArtistOfTheDayServiceImpl artistOfTheDayService(String now, String rolloverCron) {
+        return new ArtistOfTheDayServiceImpl(artistService, transactionTemplate, Clock.fixed(Instant.parse(now), ZONE), rolloverCron);
+    }
+
+    @Test
+    void testGetArtistOfTheDayIsResolvedOnce() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        ArtistOfTheDayDTO first = artistOfTheDayService.getArtistOfTheDay();
+        ArtistOfTheDayDTO second = artistOfTheDayService.getArtistOfTheDay();
+
+        assertSame(first, second);
+        assertEquals("Artist 1", second.getArtist().getName());
+        assertTrue(second.getArtist().getAliases().contains("Alias 1"));
+        verify(artistService, times(1)).getArtistOfTheDay(any());
+    }
+
+    @Test
+    void testGetArtistOfTheDayExpiresAtNextRollover() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        ArtistOfTheDayDTO artistOfTheDay = artistOfTheDayService.getArtistOfTheDay();
+
+        assertEquals(LocalDate.of(2024, 5, 15), artistOfTheDay.getDay());
+        assertEquals(ZonedDateTime.of(2024, 5, 16, 0, 0, 0, 0, ZONE), artistOfTheDay.getExpiresAt());
+        verify(artistService).getArtistOfTheDay(LocalDate.of(2024, 5, 15));
+    }
+
+    @Test
+    void testGetArtistOfTheDayFollowsConfiguredRolloverCron() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        ArtistOfTheDayDTO beforeRollover = artistOfTheDayService("2024-05-15T04:00:00Z", "0 0 6 * * *").getArtistOfTheDay();
+
+        assertEquals(LocalDate.of(2024, 5, 14), beforeRollover.getDay());
+        assertEquals(ZonedDateTime.of(2024, 5, 15, 6, 0, 0, 0, ZONE), beforeRollover.getExpiresAt());
+    }
+
+    @Test
+    void testGetArtistOfTheDayWithWeeklyRolloverCron() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        ArtistOfTheDayDTO artistOfTheDay = artistOfTheDayService("2024-05-15T10:00:00Z", "0 0 0 * * MON").getArtistOfTheDay();
+
+        assertEquals(LocalDate.of(2024, 5, 13), artistOfTheDay.getDay());
+        assertEquals(ZonedDateTime.of(2024, 5, 20, 0, 0, 0, 0, ZONE), artistOfTheDay.getExpiresAt());
+        verify(artistService).getArtistOfTheDay(LocalDate.of(2024, 5, 13));
+    }
+
+    @Test
+    void testUpdatingArtistOfTheDayKeepsTheSamePick() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        ArtistOfTheDayDTO before = artistOfTheDayService.getArtistOfTheDay();
+        artistOfTheDayService.onArtistUpdated(new ArtistUpdatedEvent(Artist.builder().id(1L).name("Renamed Artist 1").alias("Alias 1").build()));
+        ArtistOfTheDayDTO after = artistOfTheDayService.getArtistOfTheDay();
+
+        assertEquals(1L, after.getArtist().getId());
+        assertEquals("Renamed Artist 1", after.getArtist().getName());
+        assertEquals(before.getDay(), after.getDay());
+        assertEquals(before.getExpiresAt(), after.getExpiresAt());
+        verify(artistService, times(1)).getArtistOfTheDay(any());
+    }
+
+    @Test
+    void testUpdatingAnotherArtistKeepsArtistOfTheDay() {
+        when(artistService.getArtistOfTheDay(any())).thenReturn(Artist.builder().id(1L).name("Artist 1").alias("Alias 1").build());
+
+        artistOfTheDayService.getArtistOfTheDay();
+        artistOfTheDayService.onArtistUpdated(new ArtistUpdatedEvent(Artist.builder().id(2L).name("Artist 2").build()));
+        artistOfTheDayService.getArtistOfTheDay();
+
+        verify(artistService, times(1)).getArtistOfTheDay(any());
+    }
+
+    @Test
+    void testRefreshWhenNoArtists() {
+        when(artistService.getArtistOfTheDay(any())).thenThrow(new NoArtistAvailableException("No artist is available for the day"));
+
+        assertDoesNotThrow(() -> artistOfTheDayService.refresh());
+        assertThrows(NoArtistAvailableException.class, () -> artistOfTheDayService.getArtistOfTheDay());
+    }
+}
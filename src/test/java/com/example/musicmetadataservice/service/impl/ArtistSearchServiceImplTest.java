@@ -0,0 +1,109 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistSearchResultDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.service.ArtistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArtistSearchServiceImplTest {
+
+    @Mock
+    private ArtistService artistService;
+
+    @InjectMocks
+    private ArtistSearchServiceImpl artistSearchService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testSearchMatchesNamePrefixIgnoringCase() {
+        artistSearchService.index(Artist.builder().id(1L).name("Prince").alias("The Artist").build());
+        artistSearchService.index(Artist.builder().id(2L).name("Pink Floyd").alias("The Pink Floyd Sound").build());
+
+        List<ArtistSearchResultDTO> results = artistSearchService.search("PRI", 10);
+
+        assertEquals(1, results.size());
+        assertEquals(1L, results.get(0).getId());
+        assertEquals("Prince", results.get(0).getName());
+        assertEquals("Prince", results.get(0).getMatch());
+    }
+
+    @Test
+    void testSearchMatchesAliasPrefix() {
+        artistSearchService.index(Artist.builder().id(1L).name("Prince").alias("The Artist").build());
+        artistSearchService.index(Artist.builder().id(2L).name("Pink Floyd").alias("The Pink Floyd Sound").build());
+
+        List<ArtistSearchResultDTO> results = artistSearchService.search("the ", 10);
+
+        assertEquals(List.of(1L, 2L), results.stream().map(ArtistSearchResultDTO::getId).toList());
+        assertEquals("The Artist", results.get(0).getMatch());
+    }
+
+    @Test
+    void testSearchReturnsEachArtistOnceUpToLimit() {
+        artistSearchService.index(Artist.builder().id(1L).name("Abba").alias("Abba Band").build());
+        artistSearchService.index(Artist.builder().id(2L).name("Abbey").alias("Abbey Road").build());
+        artistSearchService.index(Artist.builder().id(3L).name("Abc").alias("Abc Band").build());
+
+        assertEquals(3, artistSearchService.search("ab", 10).size());
+        assertEquals(List.of(1L, 2L), artistSearchService.search("ab", 2).stream().map(ArtistSearchResultDTO::getId).toList());
+    }
+
+    @Test
+    void testUpdatedArtistIsReindexed() {
+        artistSearchService.index(Artist.builder().id(1L).name("Old Name").alias("Old Alias").build());
+
+        artistSearchService.onArtistUpdated(new ArtistUpdatedEvent(Artist.builder().id(1L).name("New Name").alias("New Alias").build()));
+
+        assertTrue(artistSearchService.search("old", 10).isEmpty());
+        assertEquals("New Alias", artistSearchService.search("new a", 10).get(0).getMatch());
+    }
+
+    @Test
+    void testRebuildReadsArtistsInChunks() {
+        List<Artist> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            firstChunk.add(Artist.builder().id(id).name("Artist " + id).alias("Alias " + id).build());
+        }
+        when(artistService.getArtists(null, 1000)).thenReturn(firstChunk);
+        when(artistService.getArtists(1000L, 1000)).thenReturn(List.of(Artist.builder().id(1001L).name("Zappa").alias("Frank").build()));
+
+        artistSearchService.rebuild();
+
+        assertEquals(1001L, artistSearchService.search("frank", 10).get(0).getId());
+        assertEquals(10, artistSearchService.search("artist", 10).size());
+        verify(artistService, times(2)).getArtists(any(), eq(1000));
+    }
+
+    @Test
+    void testRebuildDropsArtistsNoLongerInDatabase() {
+        artistSearchService.index(Artist.builder().id(1L).name("Prince").alias("The Artist").build());
+        when(artistService.getArtists(null, 1000)).thenReturn(Collections.emptyList());
+
+        artistSearchService.rebuild();
+
+        assertTrue(artistSearchService.search("prince", 10).isEmpty());
+    }
+
+    @Test
+    void testSearchWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> artistSearchService.search(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> artistSearchService.search("a", 0));
+        assertThrows(IllegalArgumentException.class, () -> artistSearchService.search("a", 101));
+    }
+}
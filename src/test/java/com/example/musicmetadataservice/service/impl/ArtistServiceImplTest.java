@@ -1,10 +1,17 @@
 package com.example.musicmetadataservice.service.impl;
 
+import com.example.musicmetadataservice.dto.ArtistBatchResultDTO;
+import com.example.musicmetadataservice.dto.ArtistDTO;
+import com.example.musicmetadataservice.event.ArtistUpdatedEvent;
 import com.example.musicmetadataservice.exception.NoArtistAvailableException;
 import com.example.musicmetadataservice.exception.ResourceNotFoundException;
 import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.ArtistRotation;
 import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistRotationRepository;
+import com.example.musicmetadataservice.service.ArtistStatsService;
 import jakarta.persistence.EntityExistsException;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,15 +19,18 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
-import java.time.Clock;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +40,21 @@ class ArtistServiceImplTest {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ArtistRotationRepository artistRotationRepository;
+
+    @Mock
+    private ArtistStatsService artistStatsService;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(ArtistServiceImpl.ARTISTS_CACHE);
+
     @Spy
     @InjectMocks
     private ArtistServiceImpl artistService;
@@ -53,6 +78,48 @@ class ArtistServiceImplTest {
         verify(artistRepository, Mockito.times(1)).findAll();
     }
 
+    @Test
+    void testGetArtists() {
+        List<Artist> artists = List.of(Artist.builder().id(3L).name("Artist 3").build());
+        when(artistRepository.findIdsAfter(2L, Limit.of(10))).thenReturn(List.of(3L));
+        when(artistRepository.findByIdInOrderByIdAsc(List.of(3L))).thenReturn(artists);
+
+        assertEquals(artists, artistService.getArtists(2L, 10));
+    }
+
+    @Test
+    void testGetArtistsFromFirstPageWhenNoArtists() {
+        when(artistRepository.findIdsAfter(0L, Limit.of(10))).thenReturn(Collections.emptyList());
+
+        assertTrue(artistService.getArtists(null, 10).isEmpty());
+        verify(artistRepository, never()).findByIdInOrderByIdAsc(any());
+    }
+
+    @Test
+    void testGetArtistsWithInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> artistService.getArtists(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> artistService.getArtists(null, 1001));
+    }
+
+    @Test
+    void testGetArtistsByIdsKeepsRequestedOrder() {
+        Artist first = Artist.builder().id(1L).name("Artist 1").build();
+        Artist third = Artist.builder().id(3L).name("Artist 3").build();
+        when(artistRepository.findByIdInOrderByIdAsc(Set.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+
+        assertEquals(List.of(third, first), artistService.getArtistsByIds(List.of(3L, 2L, 1L, 3L)));
+        verify(artistRepository, times(1)).findByIdInOrderByIdAsc(any());
+    }
+
+    @Test
+    void testGetArtistsByIdsWithInvalidIds() {
+        List<Long> tooManyIds = LongStream.rangeClosed(1, 201).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> artistService.getArtistsByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> artistService.getArtistsByIds(tooManyIds));
+        verify(artistRepository, never()).findByIdInOrderByIdAsc(any());
+    }
+
     @Test
     void testAddArtist() {
 
@@ -61,7 +128,7 @@ class ArtistServiceImplTest {
                 .build();
 
 
-        when(artistRepository.save(any(Artist.class))).thenReturn(artist);
+        when(artistRepository.saveAndFlush(any(Artist.class))).thenReturn(artist);
 
 
         Artist addedArtist = artistService.addArtist(artist);
@@ -70,10 +137,44 @@ class ArtistServiceImplTest {
         assertNotNull(addedArtist);
         assertEquals("John Doe", addedArtist.getName());
 
-        verify(artistRepository, Mockito.times(1)).save(Mockito.any(Artist.class));
+        verify(artistRepository, Mockito.times(1)).saveAndFlush(Mockito.any(Artist.class));
+        verify(artistStatsService).createStats(List.of(artist));
     }
 
 
+    @Test
+    void testAddArtistsChecksNamesInOneQuery() {
+        List<ArtistDTO> artistDTOs = List.of(
+                new ArtistDTO(null, "New Artist", Set.of("New Alias")),
+                new ArtistDTO(null, "Existing Artist", Set.of("Existing Alias")),
+                new ArtistDTO(null, "New Artist", Set.of("Another Alias")));
+        when(artistRepository.findExistingNames(Set.of("New Artist", "Existing Artist"))).thenReturn(Set.of("Existing Artist"));
+        when(artistRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ArtistBatchResultDTO> results = artistService.addArtists(artistDTOs);
+
+        assertEquals(ArtistBatchResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(ArtistBatchResultDTO.Status.DUPLICATE, results.get(1).getStatus());
+        assertEquals("Existing Artist", results.get(1).getName());
+        assertEquals(ArtistBatchResultDTO.Status.DUPLICATE, results.get(2).getStatus());
+        verify(artistRepository, Mockito.times(1)).findExistingNames(anySet());
+        verify(artistRepository, never()).existsByName(any());
+        verify(artistRepository, Mockito.times(1)).saveAll(argThat(artists -> ((List<Artist>) artists).size() == 1));
+        verify(artistStatsService).createStats(argThat(artists -> artists.size() == 1));
+    }
+
+    @Test
+    void testAddArtistsWhenNameTakenConcurrently() {
+        when(artistRepository.findExistingNames(anySet())).thenReturn(Collections.emptySet());
+        when(artistRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(DataIntegrityViolationException.class).when(artistRepository).flush();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                artistService.addArtists(List.of(new ArtistDTO(null, "New Artist", Set.of("New Alias")))));
+
+        assertEquals("An artist with the same name already exists", exception.getMessage());
+    }
+
     @Test
     void testAddArtist_DuplicateName() {
 
@@ -82,7 +183,7 @@ class ArtistServiceImplTest {
                 .build();
 
 
-        when(artistRepository.save(any(Artist.class))).thenThrow(EntityExistsException.class);
+        when(artistRepository.saveAndFlush(any(Artist.class))).thenThrow(EntityExistsException.class);
 
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -98,6 +199,7 @@ class ArtistServiceImplTest {
         Artist existingArtist = Artist.builder()
                 .id(1L)
                 .name("Existing Artist")
+                .version(3L)
                 .build();
 
 
@@ -120,9 +222,11 @@ class ArtistServiceImplTest {
 
 
         assertEquals("Updated Artist", result.getName());
+        assertEquals(3L, updatedArtist.getVersion());
 
         verify(artistRepository, Mockito.times(1)).findById(1L);
         verify(artistRepository, Mockito.times(1)).save(Mockito.any(Artist.class));
+        verify(eventPublisher, Mockito.times(1)).publishEvent(any(ArtistUpdatedEvent.class));
     }
 
     @Test
@@ -180,6 +284,17 @@ class ArtistServiceImplTest {
         verify(artistRepository, Mockito.times(1)).findById(1L);
     }
 
+    @Test
+    void testGetArtistByIdIsServedFromCache() {
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(Artist.builder().id(1L).name("Test Artist").build()));
+
+        Artist first = artistService.getArtistById(1L);
+        Artist second = artistService.getArtistById(1L);
+
+        assertSame(first, second);
+        verify(artistRepository, Mockito.times(1)).findById(1L);
+    }
+
     @Test
     void testGetArtistById_NotFound() {
         when(artistRepository.findById(1L)).thenReturn(Optional.empty());
@@ -191,13 +306,22 @@ class ArtistServiceImplTest {
         verify(artistRepository, Mockito.times(1)).findById(1L);
     }
 
+    @Test
+    void testGetArtistReference() {
+        Artist reference = Artist.builder().id(1L).build();
+        when(artistRepository.getReferenceById(1L)).thenReturn(reference);
+
+        assertSame(reference, artistService.getArtistReference(1L));
+        verify(artistRepository, never()).findById(any());
+    }
+
     @Test
     void testSaveDuplicateArtist() {
         Artist artist = Artist.builder()
                 .name("John Doe")
                 .build();
 
-        when(artistRepository.save(any(Artist.class)))
+        when(artistRepository.saveAndFlush(any(Artist.class)))
                 .thenThrow(EntityExistsException.class);
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -207,50 +331,61 @@ class ArtistServiceImplTest {
 
     @Test
     public void testGetArtistOfTheDayWhenNoArtists() {
-        when(artistRepository.findAll()).thenReturn(Collections.emptyList());
+        when(artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)).thenReturn(Optional.empty());
+        when(artistRepository.findIdsAfter(anyLong(), eq(Limit.of(1)))).thenReturn(List.of());
 
         assertThrows(NoArtistAvailableException.class, () -> {
-            artistService.getArtistOfTheDay();
+            artistService.getArtistOfTheDay(LocalDate.of(2024, 5, 15));
         });
+        verify(artistRotationRepository, never()).save(any(ArtistRotation.class));
     }
 
-
     @Test
-    void testGetArtistOfTheDayWhenOneArtist() {
-        
-        Artist artist = new Artist();
-        artist.setId(1L);
-        artist.setName("Artist 1");
-        List<Artist> artists = List.of(artist);
-        when(artistRepository.findAll()).thenReturn(artists);
-
-        Artist result = artistService.getArtistOfTheDay();
+    void testGetArtistOfTheDayStartsRotationAtFirstArtist() {
+        Artist artist = Artist.builder().id(1L).name("Artist 1").build();
+        when(artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)).thenReturn(Optional.empty());
+        when(artistRepository.findIdsAfter(0L, Limit.of(1))).thenReturn(List.of(1L));
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
 
-        assertEquals(artist, result);
+        assertEquals(artist, artistService.getArtistOfTheDay(LocalDate.of(2024, 5, 15)));
+        verify(artistRotationRepository).save(argThat(rotation ->
+                rotation.getDay().equals(LocalDate.of(2024, 5, 15)) && rotation.getArtistId().equals(1L)));
     }
 
     @Test
-    void testGetArtistOfTheDayWhenMultipleArtists() {
-
-        List<Artist> artists = new ArrayList<>();
-        artists.add(Artist.builder().name("Artist 1").alias("Alias 1").build());
-        artists.add(Artist.builder().name("Artist 2").alias("Alias 2").build());
-        artists.add(Artist.builder().name("Artist 3").alias("Alias 3").build());
-        artists.add(Artist.builder().name("Artist 4").alias("Alias 4").build());
-        artists.add(Artist.builder().name("Artist 5").alias("Alias 5").build());
-        artists.add(Artist.builder().name("Artist 6").alias("Alias 6").build());
-        artists.add(Artist.builder().name("Artist 7").alias("Alias 7").build());
-        artists.add(Artist.builder().name("Artist 8").alias("Alias 8").build());
-        artists.add(Artist.builder().name("Artist 9").alias("Alias 9").build());
-        artists.add(Artist.builder().name("Artist 10").alias("Alias 10").build());
-
-        when(artistService.geDayDifferentForArtistOfTheDay()).thenReturn(2L);
-        when(artistRepository.findAll()).thenReturn(artists);
-
-        assertEquals("Artist 3", artistService.getArtistOfTheDay().getName());
+    void testGetArtistOfTheDayIsStableWithinTheDay() {
+        Artist artist = Artist.builder().id(5L).name("Artist 5").build();
+        when(artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)).thenReturn(Optional.of(
+                ArtistRotation.builder().id(ArtistRotation.ARTIST_OF_THE_DAY).day(LocalDate.of(2024, 5, 15)).artistId(5L).build()));
+        when(artistRepository.findById(5L)).thenReturn(Optional.of(artist));
+
+        assertEquals(artist, artistService.getArtistOfTheDay(LocalDate.of(2024, 5, 15)));
+        verify(artistRepository, never()).findIdsAfter(anyLong(), any(Limit.class));
+        verify(artistRepository, never()).count();
+        verify(artistRotationRepository, never()).save(any(ArtistRotation.class));
+    }
 
+    @Test
+    void testGetArtistOfTheDayAdvancesToNextArtistOnNewDay() {
+        when(artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)).thenReturn(Optional.of(
+                ArtistRotation.builder().id(ArtistRotation.ARTIST_OF_THE_DAY).day(LocalDate.of(2024, 5, 14)).artistId(5L).build()));
+        when(artistRepository.findIdsAfter(5L, Limit.of(1))).thenReturn(List.of(57L));
+        when(artistRepository.findById(57L)).thenReturn(Optional.of(Artist.builder().id(57L).name("Artist 57").build()));
+
+        assertEquals("Artist 57", artistService.getArtistOfTheDay(LocalDate.of(2024, 5, 15)).getName());
+        verify(artistRotationRepository).save(argThat(rotation ->
+                rotation.getDay().equals(LocalDate.of(2024, 5, 15)) && rotation.getArtistId().equals(57L)));
+    }
 
-        when(artistService.geDayDifferentForArtistOfTheDay()).thenReturn(9L);
-        assertEquals("Artist 10", artistService.getArtistOfTheDay().getName());
+    @Test
+    void testGetArtistOfTheDayWrapsAroundAfterLastArtist() {
+        when(artistRotationRepository.findWithLockById(ArtistRotation.ARTIST_OF_THE_DAY)).thenReturn(Optional.of(
+                ArtistRotation.builder().id(ArtistRotation.ARTIST_OF_THE_DAY).day(LocalDate.of(2024, 5, 14)).artistId(10L).build()));
+        when(artistRepository.findIdsAfter(10L, Limit.of(1))).thenReturn(List.of());
+        when(artistRepository.findIdsAfter(0L, Limit.of(1))).thenReturn(List.of(1L));
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(Artist.builder().id(1L).name("Artist 1").build()));
+
+        assertEquals("Artist 1", artistService.getArtistOfTheDay(LocalDate.of(2024, 5, 15)).getName());
+        verify(artistRepository, never()).findAll();
     }
 }
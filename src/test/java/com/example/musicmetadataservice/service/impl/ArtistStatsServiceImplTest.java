@@ -0,0 +1,113 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.ArtistStatsDTO;
+import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.model.ArtistStats;
+import com.example.musicmetadataservice.model.Track;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.ArtistStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArtistStatsServiceImplTest {
+
+    @Mock
+    private ArtistStatsRepository artistStatsRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @InjectMocks
+    private ArtistStatsServiceImpl artistStatsService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetArtistStats() {
+        when(artistStatsRepository.findById(1L)).thenReturn(Optional.of(new ArtistStats(1L, 3, 600, Map.of("Rock", 2L, "Pop", 1L))));
+
+        ArtistStatsDTO stats = artistStatsService.getArtistStats(1L);
+
+        assertEquals(1L, stats.getArtistId());
+        assertEquals(3, stats.getTrackCount());
+        assertEquals(600, stats.getTotalLength());
+        assertEquals(List.of("Pop", "Rock"), List.copyOf(stats.getGenres().keySet()));
+        verify(artistRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testGetArtistStatsWhenArtistHasNoTracks() {
+        when(artistStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(artistRepository.existsById(1L)).thenReturn(true);
+
+        ArtistStatsDTO stats = artistStatsService.getArtistStats(1L);
+
+        assertEquals(0, stats.getTrackCount());
+        assertEquals(0, stats.getTotalLength());
+        assertTrue(stats.getGenres().isEmpty());
+    }
+
+    @Test
+    void testGetArtistStatsWhenArtistDoesNotExist() {
+        when(artistStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(artistRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> artistStatsService.getArtistStats(1L));
+    }
+
+    @Test
+    void testCreateStatsInsertsOneRowPerArtist() {
+        artistStatsService.createStats(List.of(Artist.builder().id(1L).build(), Artist.builder().id(2L).build()));
+
+        verify(artistStatsRepository).createStats(List.of(1L, 2L));
+    }
+
+    @Test
+    void testCreateStatsSkipsEmptyBatch() {
+        artistStatsService.createStats(List.of());
+
+        verifyNoInteractions(artistStatsRepository);
+    }
+
+    @Test
+    void testRecordTracksAggregatesPerArtistAndGenre() {
+        Artist first = Artist.builder().id(1L).build();
+        Artist second = Artist.builder().id(2L).build();
+
+        artistStatsService.recordTracks(List.of(
+                track(first, "Rock", 180),
+                track(first, "Rock", 200),
+                track(first, "Pop", 220),
+                track(second, "Jazz", 300)));
+
+        verify(artistStatsRepository).addTracks(1L, 3, 600);
+        verify(artistStatsRepository).addTracks(2L, 1, 300);
+        verify(artistStatsRepository).addGenreTracks(1L, "Rock", 2);
+        verify(artistStatsRepository).addGenreTracks(1L, "Pop", 1);
+        verify(artistStatsRepository).addGenreTracks(2L, "Jazz", 1);
+        verifyNoMoreInteractions(artistStatsRepository);
+    }
+
+    private static Track track(Artist artist, String genre, int length) {
+        return Track.builder()
+                .title("Track")
+                .genre(genre)
+                .length(length)
+                .artist(artist)
+                .build();
+    }
+}
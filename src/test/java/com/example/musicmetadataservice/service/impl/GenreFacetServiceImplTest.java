@@ -0,0 +1,134 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.GenreArtistDTO;
+import com.example.musicmetadataservice.dto.GenreArtistTotalsDTO;
+import com.example.musicmetadataservice.dto.GenreDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.model.Artist;
+import com.example.musicmetadataservice.repository.ArtistRepository;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GenreFacetServiceImplTest {
+
+    @Mock
+    private TrackRepository trackRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private GenreFacetServiceImpl genreFacetService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetGenresAggregatesRecordedTracks() {
+        genreFacetService.record(track("Rock", 1L, 180));
+        genreFacetService.record(track("Rock", 1L, 200));
+        genreFacetService.record(track("Rock", 2L, 220));
+        genreFacetService.onTracksAdded(new TracksAddedEvent(List.of(track("Jazz", 3L, 300))));
+
+        List<GenreDTO> genres = genreFacetService.getGenres();
+
+        assertEquals(List.of("Rock", "Jazz"), genres.stream().map(GenreDTO::getGenre).toList());
+        assertEquals(3, genres.get(0).getTrackCount());
+        assertEquals(2, genres.get(0).getArtistCount());
+        assertEquals(600, genres.get(0).getTotalLength());
+        assertEquals(1, genres.get(1).getTrackCount());
+    }
+
+    @Test
+    void testGetTopArtistsRanksByTrackCount() {
+        genreFacetService.record(track("Rock", 1L, 180));
+        genreFacetService.record(track("Rock", 2L, 200));
+        genreFacetService.record(track("Rock", 2L, 220));
+        genreFacetService.record(track("Rock", 3L, 240));
+        when(artistRepository.findByIdInOrderByIdAsc(List.of(2L, 1L))).thenReturn(List.of(
+                Artist.builder().id(1L).name("Artist 1").build(),
+                Artist.builder().id(2L).name("Artist 2").build()));
+
+        List<GenreArtistDTO> artists = genreFacetService.getTopArtists("Rock", 2);
+
+        assertEquals(List.of(2L, 1L), artists.stream().map(GenreArtistDTO::getArtistId).toList());
+        assertEquals("Artist 2", artists.get(0).getName());
+        assertEquals(2, artists.get(0).getTrackCount());
+        assertEquals(420, artists.get(0).getTotalLength());
+    }
+
+    @Test
+    void testRebuildReplacesAggregates() {
+        genreFacetService.record(track("Pop", 1L, 180));
+        when(trackRepository.findGenreArtistTotals()).thenReturn(List.of(
+                new GenreArtistTotalsDTO("Rock", 1L, 2L, 400L),
+                new GenreArtistTotalsDTO("Rock", 2L, 1L, 200L)));
+
+        genreFacetService.rebuild();
+
+        List<GenreDTO> genres = genreFacetService.getGenres();
+        assertEquals(1, genres.size());
+        assertEquals(3, genres.get(0).getTrackCount());
+        assertEquals(2, genres.get(0).getArtistCount());
+        assertEquals(600, genres.get(0).getTotalLength());
+    }
+
+    @Test
+    void testRebuildReplaysTracksRecordedWhileAggregating() {
+        when(trackRepository.findGenreArtistTotals()).thenAnswer(invocation -> {
+            genreFacetService.record(track(10L, "Rock", 1L, 200));
+            genreFacetService.record(track(11L, "Rock", 2L, 300));
+            return List.of(new GenreArtistTotalsDTO("Rock", 1L, 2L, 400L));
+        });
+        when(trackRepository.findExistingIds(Set.of(10L, 11L))).thenReturn(Set.of(10L));
+
+        genreFacetService.rebuild();
+        genreFacetService.record(track(12L, "Rock", 2L, 100));
+
+        List<GenreDTO> genres = genreFacetService.getGenres();
+        assertEquals(4, genres.get(0).getTrackCount());
+        assertEquals(2, genres.get(0).getArtistCount());
+        assertEquals(800, genres.get(0).getTotalLength());
+    }
+
+    @Test
+    void testGetTopArtistsWithInvalidArguments() {
+        genreFacetService.record(track("Rock", 1L, 180));
+
+        assertThrows(ResourceNotFoundException.class, () -> genreFacetService.getTopArtists("Polka", 10));
+        assertThrows(IllegalArgumentException.class, () -> genreFacetService.getTopArtists("Rock", 0));
+        assertThrows(IllegalArgumentException.class, () -> genreFacetService.getTopArtists("Rock", 101));
+    }
+
+    private static TrackDTO track(String genre, Long artistId, int length) {
+        return track(null, genre, artistId, length);
+    }
+
+    private static TrackDTO track(Long id, String genre, Long artistId, int length) {
+        return TrackDTO.builder()
+                .id(id)
+                .title("Track")
+                .genre(genre)
+                .length(length)
+                .artistId(artistId)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.musicmetadataservice.service.impl;
+
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.dto.TrackSearchResultDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
+import com.example.musicmetadataservice.repository.TrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrackSearchServiceImplTest {
+
+    @Mock
+    private TrackRepository trackRepository;
+
+    @InjectMocks
+    private TrackSearchServiceImpl trackSearchService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testSearchMatchesWordsAnywhereInTitle() {
+        trackSearchService.index(track(1L, "Bohemian Rhapsody", "Rock", 1L));
+        trackSearchService.index(track(2L, "Hungarian Rhapsody No. 2", "Classical", 2L));
+        trackSearchService.index(track(3L, "Another One Bites the Dust", "Rock", 1L));
+
+        List<TrackSearchResultDTO> results = trackSearchService.search("rhapsody", null, null, 10);
+
+        assertEquals(List.of(1L, 2L), ids(results));
+        assertEquals(1.0, results.get(0).getScore());
+        assertEquals("Bohemian Rhapsody", results.get(0).getTitle());
+        assertEquals("Rock", results.get(0).getGenre());
+        assertEquals(1L, results.get(0).getArtistId());
+    }
+
+    @Test
+    void testSearchToleratesTypos() {
+        trackSearchService.index(track(1L, "Hello World", "Pop", 1L));
+        trackSearchService.index(track(2L, "Goodbye Moon", "Pop", 1L));
+
+        assertEquals(List.of(1L), ids(trackSearchService.search("helo wrold", null, null, 10)));
+    }
+
+    @Test
+    void testSearchRanksCloserMatchesFirst() {
+        trackSearchService.index(track(1L, "Love Me Tender", "Pop", 1L));
+        trackSearchService.index(track(2L, "Love Me Do", "Pop", 1L));
+        trackSearchService.index(track(3L, "Tender Love", "Soul", 2L));
+
+        assertEquals(List.of(2L, 1L), ids(trackSearchService.search("love me do", null, null, 2)));
+    }
+
+    @Test
+    void testSearchFiltersByGenreAndArtist() {
+        trackSearchService.index(track(1L, "Summer Nights", "Pop", 1L));
+        trackSearchService.index(track(2L, "Summer Nights", "Jazz", 1L));
+        trackSearchService.index(track(3L, "Summer Nights", "Pop", 2L));
+
+        assertEquals(List.of(1L, 3L), ids(trackSearchService.search("summer", "pop", null, 10)));
+        assertEquals(List.of(1L, 2L), ids(trackSearchService.search("summer", null, 1L, 10)));
+        assertEquals(List.of(3L), ids(trackSearchService.search("summer", "Pop", 2L, 10)));
+        assertTrue(trackSearchService.search("summer", "Metal", null, 10).isEmpty());
+    }
+
+    @Test
+    void testSearchMergesPostingsAcrossManyCandidates() {
+        for (long id = 1; id <= 3000; id++) {
+            String title = id % 3 == 0 ? "Midnight Train " + id : id % 3 == 1 ? "Midnight City " + id : "Morning Train " + id;
+            trackSearchService.index(track(id, title, "Pop", 1L));
+        }
+
+        List<TrackSearchResultDTO> results = trackSearchService.search("midnight train", null, null, 5);
+
+        assertEquals(List.of(3L, 6L, 9L, 12L, 15L), ids(results));
+        assertEquals(1.0, results.get(0).getScore());
+        List<TrackSearchResultDTO> cityResults = trackSearchService.search("midnight city", null, null, 100);
+        assertEquals(100, cityResults.size());
+        assertTrue(cityResults.stream().allMatch(result -> result.getId() % 3 == 1 && result.getScore() == 1.0));
+    }
+
+    @Test
+    void testAddedTrackIsIndexed() {
+        trackSearchService.onTracksAdded(new TracksAddedEvent(List.of(track(1L, "Fresh Release", "Pop", 1L))));
+
+        assertEquals(List.of(1L), ids(trackSearchService.search("fresh", null, null, 10)));
+    }
+
+    @Test
+    void testRebuildReadsTracksInChunksAndSkipsAlreadyIndexedTracks() {
+        List<TrackDTO> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            firstChunk.add(track(id, "Track " + id, "Pop", 1L));
+        }
+        when(trackRepository.findTrackDTOsAfter(0L, Limit.of(1000))).thenReturn(firstChunk);
+        when(trackRepository.findTrackDTOsAfter(1000L, Limit.of(1000))).thenReturn(List.of(track(1001L, "Closing Time", "Rock", 2L)));
+
+        trackSearchService.rebuild();
+        trackSearchService.index(track(1001L, "Closing Time", "Rock", 2L));
+
+        assertEquals(List.of(1001L), ids(trackSearchService.search("closing time", null, null, 10)));
+        assertEquals(10, trackSearchService.search("track", null, null, 10).size());
+        verify(trackRepository, times(2)).findTrackDTOsAfter(anyLong(), eq(Limit.of(1000)));
+    }
+
+    @Test
+    void testRebuildDropsTracksNoLongerInDatabase() {
+        trackSearchService.index(track(1L, "Old Track", "Pop", 1L));
+        when(trackRepository.findTrackDTOsAfter(0L, Limit.of(1000))).thenReturn(Collections.emptyList());
+
+        trackSearchService.rebuild();
+
+        assertTrue(trackSearchService.search("old track", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testSearchWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> trackSearchService.search(" ", null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> trackSearchService.search("a".repeat(101), null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> trackSearchService.search("a", null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> trackSearchService.search("a", null, null, 101));
+    }
+
+    private static TrackDTO track(Long id, String title, String genre, Long artistId) {
+        return TrackDTO.builder()
+                .id(id)
+                .title(title)
+                .genre(genre)
+                .length(180)
+                .artistId(artistId)
+                .build();
+    }
+
+    private static List<Long> ids(List<TrackSearchResultDTO> results) {
+        return results.stream().map(TrackSearchResultDTO::getId).toList();
+    }
+}
@@ -1,16 +1,40 @@
 package com.example.musicmetadataservice.service.impl;
 
+import com.example.musicmetadataservice.cache.ArtistTracksCache;
+import com.example.musicmetadataservice.cache.GenreDictionary;
+import com.example.musicmetadataservice.dto.TrackBatchResultDTO;
+import com.example.musicmetadataservice.dto.TrackDTO;
+import com.example.musicmetadataservice.event.TracksAddedEvent;
 import com.example.musicmetadataservice.exception.ResourceNotFoundException;
+import com.example.musicmetadataservice.model.Artist;
 import com.example.musicmetadataservice.model.Track;
+import com.example.musicmetadataservice.repository.ArtistRepository;
 import com.example.musicmetadataservice.repository.TrackRepository;
+import com.example.musicmetadataservice.service.ArtistStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,49 +43,283 @@ import static org.mockito.Mockito.*;
     @Mock
     private TrackRepository trackRepository;
 
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ArtistStatsService artistStatsService;
+
+    @Mock
+    private GenreDictionary genreDictionary;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ArtistTracksCache artistTracksCache = new ArtistTracksCache(true, 1_000_000, new SimpleMeterRegistry());
+
     @InjectMocks
     private TrackServiceImpl trackService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        when(genreDictionary.intern(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testAddTrackResolvesGenreBeforeTransaction() {
+        Track track = Track.builder()
+                .title("Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(Artist.builder().id(1L).build())
+                .build();
+        when(trackRepository.saveAndFlush(track)).thenReturn(track);
+
+        trackService.addTrack(track);
+
+        InOrder inOrder = inOrder(genreDictionary, transactionTemplate, trackRepository);
+        inOrder.verify(genreDictionary).idOf("Pop");
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(trackRepository).saveAndFlush(track);
+    }
+
+    @Test
+    void testAddTracksResolvesGenresOfValidTracksBeforeTransaction() {
+        List<TrackDTO> trackDTOs = List.of(
+                new TrackDTO(null, "Track 1", "Pop", 180, 1L),
+                new TrackDTO(null, "Track 2", "Rock", 200, 1L));
+        ConstraintViolation<TrackDTO> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Length must be positive");
+        when(validator.validate(trackDTOs.get(1))).thenReturn(Set.of(violation));
+        when(artistRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(artistRepository.getReferenceById(1L)).thenReturn(Artist.builder().id(1L).build());
+        when(trackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        trackService.addTracks(trackDTOs);
+
+        InOrder inOrder = inOrder(genreDictionary, transactionTemplate);
+        inOrder.verify(genreDictionary).idOf("Pop");
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(genreDictionary, never()).idOf("Rock");
     }
 
     @Test
     void testAddTrack() {
-        Track track = new Track();
-        when(trackRepository.save(track)).thenReturn(track);
+        Track track = Track.builder()
+                .id(1L)
+                .title("Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(Artist.builder().id(1L).name("Artist 1").build())
+                .build();
+        when(trackRepository.saveAndFlush(track)).thenReturn(track);
 
         Track savedTrack = trackService.addTrack(track);
 
         assertNotNull(savedTrack);
         assertEquals(track, savedTrack);
-        verify(trackRepository, times(1)).save(track);
+        verify(trackRepository, times(1)).saveAndFlush(track);
+        verify(artistStatsService, times(1)).recordTracks(List.of(track));
+        verify(eventPublisher, times(1)).publishEvent(any(TracksAddedEvent.class));
+    }
+
+    @Test
+    void testAddTrackWhenArtistDoesNotExist() {
+        Track track = Track.builder()
+                .title("Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(Artist.builder().id(42L).build())
+                .build();
+        when(trackRepository.saveAndFlush(track)).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Referential integrity constraint violation", new SQLException(), "FK_TRACKS_ARTIST")));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> trackService.addTrack(track));
+
+        assertEquals("Artist not found with id 42", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddTrackRethrowsOtherIntegrityViolations() {
+        Track track = Track.builder()
+                .title("Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(Artist.builder().id(1L).build())
+                .build();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Value too long for column TITLE");
+        when(trackRepository.saveAndFlush(track)).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> trackService.addTrack(track)));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddTracksRetriesWhenStatsRowInsertedConcurrently() {
+        List<TrackDTO> trackDTOs = List.of(new TrackDTO(null, "Track 1", "Pop", 180, 1L));
+        when(artistRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(artistRepository.getReferenceById(1L)).thenReturn(Artist.builder().id(1L).build());
+        when(trackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("duplicate", "23505"), null)))
+                .doNothing()
+                .when(artistStatsService).recordTracks(anyList());
+
+        List<TrackBatchResultDTO> results = trackService.addTracks(trackDTOs);
+
+        assertEquals(TrackBatchResultDTO.Status.CREATED, results.get(0).getStatus());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(artistStatsService, times(2)).recordTracks(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(TracksAddedEvent.class));
+    }
+
+    @Test
+    void testAddTrackRetriesWithFreshTrackWhenStatsRowInsertedConcurrently() {
+        Track track = Track.builder()
+                .title("Track 1")
+                .genre("Pop")
+                .length(180)
+                .artist(Artist.builder().id(1L).build())
+                .build();
+        when(trackRepository.saveAndFlush(any(Track.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("duplicate", "23505"), null)))
+                .doNothing()
+                .when(artistStatsService).recordTracks(anyList());
+
+        Track savedTrack = trackService.addTrack(track);
+
+        assertNotSame(track, savedTrack);
+        assertEquals("Track 1", savedTrack.getTitle());
+        verify(trackRepository, times(2)).saveAndFlush(any(Track.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TracksAddedEvent.class));
+    }
+
+    @Test
+    void testAddTracksResolvesArtistsOnce() {
+        Artist artist = Artist.builder().id(1L).name("Artist 1").build();
+        List<TrackDTO> trackDTOs = List.of(
+                new TrackDTO(null, "Track 1", "Pop", 180, 1L),
+                new TrackDTO(null, "Track 2", "Pop", 200, 1L),
+                new TrackDTO(null, "Track 3", "Pop", 220, 2L));
+        when(artistRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(artistRepository.getReferenceById(1L)).thenReturn(artist);
+        when(trackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TrackBatchResultDTO> results = trackService.addTracks(trackDTOs);
+
+        assertEquals(3, results.size());
+        assertEquals(TrackBatchResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(TrackBatchResultDTO.Status.CREATED, results.get(1).getStatus());
+        assertEquals(TrackBatchResultDTO.Status.ARTIST_NOT_FOUND, results.get(2).getStatus());
+        assertEquals("Artist not found with id 2", results.get(2).getError());
+        verify(artistRepository, times(1)).findExistingIds(anySet());
+        verify(artistRepository, never()).findById(any());
+        verify(trackRepository, times(1)).saveAll(argThat(tracks -> ((List<Track>) tracks).size() == 2));
+        verify(artistStatsService, times(1)).recordTracks(argThat(tracks -> tracks.size() == 2));
+        verify(eventPublisher, times(1)).publishEvent(Mockito.<Object>argThat(event -> event instanceof TracksAddedEvent tracksAddedEvent
+                && tracksAddedEvent.getTracks().size() == 2));
+    }
+
+    @Test
+    void testAddTracksReportsInvalidTracks() {
+        TrackDTO invalidTrack = new TrackDTO(null, null, "Pop", 180, 1L);
+        ConstraintViolation<TrackDTO> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Title cannot be empty or blank");
+        when(validator.validate(invalidTrack)).thenReturn(Set.of(violation));
+        when(artistRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(trackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TrackBatchResultDTO> results = trackService.addTracks(Arrays.asList(invalidTrack, null));
+
+        assertEquals(TrackBatchResultDTO.Status.INVALID, results.get(0).getStatus());
+        assertEquals("Title cannot be empty or blank", results.get(0).getError());
+        assertEquals(TrackBatchResultDTO.Status.INVALID, results.get(1).getStatus());
+        assertEquals("Track must be provided", results.get(1).getError());
     }
 
     @Test
     void testFindTracksByArtistIdWhenTracksExist() {
         Long artistId = 1L;
-        List<Track> tracks = new ArrayList<>();
-        tracks.add(new Track());
-        when(trackRepository.findByArtistId(artistId)).thenReturn(tracks);
+        List<TrackDTO> tracks = new ArrayList<>();
+        tracks.add(new TrackDTO(1L, "Track 1", "Pop", 180, artistId));
+        when(trackRepository.findTrackDTOsByArtistId(artistId)).thenReturn(tracks);
 
-        List<Track> foundTracks = trackService.findTracksByArtistId(artistId);
+        List<TrackDTO> foundTracks = trackService.findTracksByArtistId(artistId);
 
         assertNotNull(foundTracks);
         assertEquals(tracks, foundTracks);
-        verify(trackRepository, times(1)).findByArtistId(artistId);
+        verify(trackRepository, times(1)).findTrackDTOsByArtistId(artistId);
+        verify(trackRepository, never()).findByArtistId(artistId);
+    }
+
+    @Test
+    void testFindTracksByArtistIdIsCached() {
+        Long artistId = 1L;
+        when(trackRepository.findTrackDTOsByArtistId(artistId)).thenReturn(List.of(new TrackDTO(1L, "Track 1", "Pop", 180, artistId)));
+
+        trackService.findTracksByArtistId(artistId);
+        List<TrackDTO> foundTracks = trackService.findTracksByArtistId(artistId);
+
+        assertEquals(1, foundTracks.size());
+        verify(trackRepository, times(1)).findTrackDTOsByArtistId(artistId);
+    }
+
+    @Test
+    void testFindTracksByArtistIdsKeepsRequestedOrder() {
+        when(trackRepository.findTrackDTOsByArtistIdIn(Set.of(3L, 2L, 1L))).thenReturn(List.of(
+                new TrackDTO(1L, "Track 1", "Pop", 180, 1L),
+                new TrackDTO(2L, "Track 2", "Pop", 200, 1L),
+                new TrackDTO(3L, "Track 3", "Rock", 220, 3L)));
+        when(artistRepository.findExistingIds(Set.of(2L))).thenReturn(Set.of());
+
+        Map<Long, List<TrackDTO>> tracks = trackService.findTracksByArtistIds(List.of(3L, 2L, 1L));
+
+        assertEquals(List.of(3L, 1L), List.copyOf(tracks.keySet()));
+        assertEquals(2, tracks.get(1L).size());
+        verify(trackRepository, times(1)).findTrackDTOsByArtistIdIn(any());
+    }
+
+    @Test
+    void testFindTracksByArtistIdsReportsArtistsWithoutTracks() {
+        when(trackRepository.findTrackDTOsByArtistIdIn(Set.of(1L, 2L))).thenReturn(List.of(new TrackDTO(1L, "Track 1", "Pop", 180, 1L)));
+        when(artistRepository.findExistingIds(Set.of(2L))).thenReturn(Set.of(2L));
+
+        trackService.findTracksByArtistIds(List.of(1L, 2L));
+        Map<Long, List<TrackDTO>> tracks = trackService.findTracksByArtistIds(List.of(1L, 2L));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(tracks.keySet()));
+        assertTrue(tracks.get(2L).isEmpty());
+        verify(trackRepository, times(1)).findTrackDTOsByArtistIdIn(Set.of(1L, 2L));
+        verify(trackRepository, times(1)).findTrackDTOsByArtistIdIn(Set.of(2L));
+    }
+
+    @Test
+    void testFindTracksByArtistIdsWithInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> trackService.findTracksByArtistIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> trackService.findTracksByArtistIds(LongStream.rangeClosed(1, 201).boxed().toList()));
     }
 
     @Test
     void testFindTracksByArtistIdWhenNoTracksExist() {
         Long artistId = 1L;
-        when(trackRepository.findByArtistId(artistId)).thenReturn(new ArrayList<>());
+        when(trackRepository.findTrackDTOsByArtistId(artistId)).thenReturn(new ArrayList<>());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             trackService.findTracksByArtistId(artistId);
         });
 
-        verify(trackRepository, times(1)).findByArtistId(artistId);
+        verify(trackRepository, times(1)).findTrackDTOsByArtistId(artistId);
     }
 }